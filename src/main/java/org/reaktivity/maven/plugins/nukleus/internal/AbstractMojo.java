@@ -17,16 +17,16 @@ package org.reaktivity.maven.plugins.nukleus.internal;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.URI;
 import java.net.URL;
-import java.net.URLClassLoader;
 import java.util.LinkedList;
 import java.util.List;
 
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.reaktivity.maven.plugins.nukleus.internal.ast.AstSpecificationNode;
+import org.sonatype.plexus.build.incremental.BuildContext;
 
 public abstract class AbstractMojo extends org.apache.maven.plugin.AbstractMojo
 {
@@ -39,8 +39,20 @@ public abstract class AbstractMojo extends org.apache.maven.plugin.AbstractMojo
     @Parameter(defaultValue = "src/main/resources/META-INF/reaktivity")
     protected File metaDirectory;
 
-    @Parameter(required = true)
-    protected String scopeNames;
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    protected String pluginVersion;
+
+    @Parameter(defaultValue = "${session.executionRootDirectory}/target/reaktivity/ast-cache")
+    protected File astCacheDirectory;
+
+    @Parameter(defaultValue = "false")
+    protected boolean parallel;
+
+    @Parameter(defaultValue = "0")
+    protected int parallelism;
+
+    @Component
+    protected BuildContext buildContext;
 
     private Parser parser = new Parser()
             .debug(getLog()::debug)
@@ -50,9 +62,63 @@ public abstract class AbstractMojo extends org.apache.maven.plugin.AbstractMojo
     protected abstract void executeImpl() throws IOException;
 
     protected final List<AstSpecificationNode> parseAST(
-        List<String> targetScopes) throws IOException
+        List<String> targetScopes,
+        BuildStats stats) throws IOException
+    {
+        parser.astCache(astCacheDirectory != null ? new AstCache(astCacheDirectory, pluginVersion) : null);
+        parser.parallelism(parallelism());
+        parser.stats(stats);
+        ClassLoader loader = createLoader(stats);
+
+        long resolveStart = System.nanoTime();
+        List<AstSpecificationNode> specifications = parser.parseAST(targetScopes, loader);
+        stats.phase("resolve", resolveStart);
+        return specifications;
+    }
+
+    final ClassLoader createLoader(
+        BuildStats stats) throws IOException
+    {
+        long classpathStart = System.nanoTime();
+        ClassLoader loader = createLoader();
+        stats.phase("classpath", classpathStart);
+        return loader;
+    }
+
+    final void report(
+        BuildStats stats,
+        File reportFile) throws IOException
+    {
+        stats.store(reportFile);
+        getLog().info("Build report written to " + reportFile);
+        stats.summarize(getLog()::info);
+    }
+
+    final int parallelism()
     {
-        return parser.parseAST(targetScopes, createLoader());
+        return !parallel ? 1 : parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    final boolean isIncrementallyUpToDate(
+        File manifestFile) throws IOException
+    {
+        return buildContext.isIncremental() &&
+               manifestFile.isFile() &&
+               !buildContext.hasDelta(inputDirectory) &&
+               !buildContext.hasDelta(metaDirectory) &&
+               classpath().stream().map(File::new).noneMatch(buildContext::hasDelta);
+    }
+
+    final List<String> classpath() throws IOException
+    {
+        try
+        {
+            return project.getTestClasspathElements();
+        }
+        catch (DependencyResolutionRequiredException e)
+        {
+            throw new IOException(e);
+        }
     }
 
     ClassLoader createLoader() throws IOException
@@ -62,13 +128,12 @@ public abstract class AbstractMojo extends org.apache.maven.plugin.AbstractMojo
         resourcePath.add(inputDirectory.getAbsoluteFile().toURI().toURL());
         resourcePath.add(metaDirectory.getAbsoluteFile().toURI().toURL());
 
+        ClasspathIndex index = new ClasspathIndex();
         try
         {
             for (Object resourcePathEntry : project.getTestClasspathElements())
             {
-                File resourcePathFile = new File(resourcePathEntry.toString());
-                URI resourcePathURI = resourcePathFile.getAbsoluteFile().toURI();
-                resourcePath.add(URI.create(String.format("jar:%s!/META-INF/reaktivity/", resourcePathURI)).toURL());
+                index.index(new File(resourcePathEntry.toString()));
             }
         }
         catch (DependencyResolutionRequiredException e)
@@ -77,8 +142,9 @@ public abstract class AbstractMojo extends org.apache.maven.plugin.AbstractMojo
         }
 
         getLog().debug("resource path: " + resourcePath);
+        getLog().debug("indexed resource path: " + index.entries());
 
         ClassLoader parent = getClass().getClassLoader();
-        return new URLClassLoader(resourcePath.toArray(new URL[resourcePath.size()]), parent);
+        return index.newLoader(resourcePath.toArray(new URL[resourcePath.size()]), parent);
     }
 }
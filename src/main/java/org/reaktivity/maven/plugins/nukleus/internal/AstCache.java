@@ -0,0 +1,100 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.reaktivity.maven.plugins.nukleus.internal.ast.AstSpecificationNode;
+
+final class AstCache
+{
+    private final Path directory;
+    private final String version;
+
+    AstCache(
+        File directory,
+        String version)
+    {
+        this.directory = directory.toPath();
+        this.version = version;
+    }
+
+    AstSpecificationNode lookup(
+        URL resource,
+        String hash)
+    {
+        AstSpecificationNode specification = null;
+
+        Path entry = entry(resource, hash);
+        if (Files.isRegularFile(entry))
+        {
+            try (ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(entry))))
+            {
+                specification = (AstSpecificationNode) input.readObject();
+            }
+            catch (IOException | ClassNotFoundException | ClassCastException ex)
+            {
+                // stale or corrupt entry, fall back to parsing
+                specification = null;
+            }
+        }
+
+        return specification;
+    }
+
+    void store(
+        URL resource,
+        String hash,
+        AstSpecificationNode specification) throws IOException
+    {
+        Path entry = entry(resource, hash);
+        Files.createDirectories(directory);
+
+        Path temporary = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+        try
+        {
+            try (ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary))))
+            {
+                output.writeObject(specification);
+            }
+            Files.move(temporary, entry, ATOMIC_MOVE, REPLACE_EXISTING);
+        }
+        finally
+        {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private Path entry(
+        URL resource,
+        String hash)
+    {
+        String key = String.format("%s\n%s\n%s", version, resource.toExternalForm(), hash);
+        return directory.resolve(ContentHash.of(key.getBytes(UTF_8)) + ".ast");
+    }
+}
@@ -0,0 +1,251 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparingInt;
+import static java.util.Comparator.comparingLong;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+final class BuildStats
+{
+    private static final int SLOWEST_LIMIT = 10;
+
+    private final Map<String, LongAdder> phases;
+    private final Map<String, ScopeStats> scopes;
+    private final ConcurrentLinkedQueue<TypeStats> types;
+    private final ConcurrentLinkedQueue<MethodStats> methods;
+
+    BuildStats()
+    {
+        this.phases = Collections.synchronizedMap(new LinkedHashMap<>());
+        this.scopes = Collections.synchronizedMap(new TreeMap<>());
+        this.types = new ConcurrentLinkedQueue<>();
+        this.methods = new ConcurrentLinkedQueue<>();
+    }
+
+    void phase(
+        String phase,
+        long startNanos)
+    {
+        elapsed(phase, System.nanoTime() - startNanos);
+    }
+
+    void elapsed(
+        String phase,
+        long nanos)
+    {
+        phases.computeIfAbsent(phase, p -> new LongAdder()).add(nanos);
+    }
+
+    void generated(
+        String scope,
+        String type,
+        int lines,
+        long nanos)
+    {
+        ScopeStats scopeStats = scopes.computeIfAbsent(scope, s -> new ScopeStats());
+        scopeStats.types.increment();
+        scopeStats.lines.add(lines);
+        types.add(new TypeStats(scope, type, lines, nanos));
+    }
+
+    void bytecode(
+        String type,
+        String method,
+        int bytes)
+    {
+        methods.add(new MethodStats(type, method, bytes));
+    }
+
+    long phaseNanos(
+        String phase)
+    {
+        LongAdder nanos = phases.get(phase);
+        return nanos != null ? nanos.sum() : 0L;
+    }
+
+    List<TypeStats> slowest()
+    {
+        List<TypeStats> slowest = new ArrayList<>(types);
+        slowest.sort(comparingLong((TypeStats t) -> t.nanos).reversed());
+        return slowest.subList(0, Math.min(SLOWEST_LIMIT, slowest.size()));
+    }
+
+    List<MethodStats> largest()
+    {
+        List<MethodStats> largest = new ArrayList<>(methods);
+        largest.sort(comparingInt((MethodStats m) -> m.bytes).reversed());
+        return largest;
+    }
+
+    void summarize(
+        Consumer<String> log)
+    {
+        long typeCount = 0L;
+        long lineCount = 0L;
+        synchronized (scopes)
+        {
+            for (ScopeStats scopeStats : scopes.values())
+            {
+                typeCount += scopeStats.types.sum();
+                lineCount += scopeStats.lines.sum();
+            }
+        }
+
+        log.accept(String.format(Locale.ROOT, "Generated %d types (%d lines)", typeCount, lineCount));
+        synchronized (phases)
+        {
+            phases.forEach((phase, nanos) -> log.accept(String.format(Locale.ROOT, "  %-14s %s ms", phase, millis(nanos.sum()))));
+        }
+        for (TypeStats type : slowest())
+        {
+            log.accept(String.format(Locale.ROOT, "  slowest: %s %s ms", type.type, millis(type.nanos)));
+        }
+        List<MethodStats> largest = largest();
+        for (MethodStats method : largest.subList(0, Math.min(SLOWEST_LIMIT, largest.size())))
+        {
+            log.accept(String.format(Locale.ROOT, "  largest: %s.%s %d bytes", method.type, method.method, method.bytes));
+        }
+    }
+
+    void store(
+        File reportFile) throws IOException
+    {
+        File reportDirectory = reportFile.getAbsoluteFile().getParentFile();
+        reportDirectory.mkdirs();
+        Files.write(reportFile.toPath(), toJson().getBytes(UTF_8));
+    }
+
+    String toJson()
+    {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"phases\": {");
+        synchronized (phases)
+        {
+            String separator = "\n";
+            for (Map.Entry<String, LongAdder> entry : phases.entrySet())
+            {
+                json.append(separator).append("    ").append(quote(entry.getKey())).append(": ")
+                    .append(millis(entry.getValue().sum()));
+                separator = ",\n";
+            }
+        }
+        json.append("\n  },\n  \"scopes\": {");
+        synchronized (scopes)
+        {
+            String separator = "\n";
+            for (Map.Entry<String, ScopeStats> entry : scopes.entrySet())
+            {
+                ScopeStats scopeStats = entry.getValue();
+                json.append(separator).append("    ").append(quote(entry.getKey()))
+                    .append(": { \"types\": ").append(scopeStats.types.sum())
+                    .append(", \"lines\": ").append(scopeStats.lines.sum()).append(" }");
+                separator = ",\n";
+            }
+        }
+        json.append("\n  },\n  \"slowest\": [");
+        String separator = "\n";
+        for (TypeStats type : slowest())
+        {
+            json.append(separator).append("    { \"type\": ").append(quote(type.type))
+                .append(", \"scope\": ").append(quote(type.scope))
+                .append(", \"lines\": ").append(type.lines)
+                .append(", \"millis\": ").append(millis(type.nanos)).append(" }");
+            separator = ",\n";
+        }
+        json.append("\n  ],\n  \"bytecode\": [");
+        separator = "\n";
+        for (MethodStats method : largest())
+        {
+            json.append(separator).append("    { \"type\": ").append(quote(method.type))
+                .append(", \"method\": ").append(quote(method.method))
+                .append(", \"bytes\": ").append(method.bytes).append(" }");
+            separator = ",\n";
+        }
+        json.append("\n  ]\n}\n");
+        return json.toString();
+    }
+
+    private static String millis(
+        long nanos)
+    {
+        return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1L));
+    }
+
+    private static String quote(
+        String value)
+    {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static final class ScopeStats
+    {
+        private final LongAdder types = new LongAdder();
+        private final LongAdder lines = new LongAdder();
+    }
+
+    static final class TypeStats
+    {
+        final String scope;
+        final String type;
+        final int lines;
+        final long nanos;
+
+        private TypeStats(
+            String scope,
+            String type,
+            int lines,
+            long nanos)
+        {
+            this.scope = scope;
+            this.type = type;
+            this.lines = lines;
+            this.nanos = nanos;
+        }
+    }
+
+    static final class MethodStats
+    {
+        final String type;
+        final String method;
+        final int bytes;
+
+        private MethodStats(
+            String type,
+            String method,
+            int bytes)
+        {
+            this.type = type;
+            this.method = method;
+            this.bytes = bytes;
+        }
+    }
+}
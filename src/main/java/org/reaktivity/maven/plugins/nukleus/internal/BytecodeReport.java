@@ -0,0 +1,267 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles generated sources in memory and measures the bytecode size of each generated method,
+ * recording methods too large for HotSpot to inline at hot call sites.
+ */
+final class BytecodeReport
+{
+    static final int FREQ_INLINE_SIZE = 325;
+    static final int HUGE_METHOD_LIMIT = 8000;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private final List<String> classpath;
+
+    BytecodeReport(
+        List<String> classpath)
+    {
+        this.classpath = classpath;
+    }
+
+    static boolean isAvailable()
+    {
+        return ToolProvider.getSystemJavaCompiler() != null;
+    }
+
+    List<String> measure(
+        Path sourceDirectory,
+        BuildStats stats) throws IOException
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> sources = sources(sourceDirectory);
+        List<String> errors = new ArrayList<>();
+
+        try (ClassFileManager classFiles = new ClassFileManager(compiler.getStandardFileManager(diagnostics, null, UTF_8)))
+        {
+            List<String> options = asList("-classpath", String.join(File.pathSeparator, classpath), "-proc:none", "-nowarn");
+            if (!compiler.getTask(null, classFiles, diagnostics, options, null, sources).call())
+            {
+                for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics())
+                {
+                    if (diagnostic.getKind() == ERROR)
+                    {
+                        errors.add(diagnostic.toString());
+                    }
+                }
+            }
+
+            for (Map.Entry<String, ByteArrayOutputStream> entry : classFiles.classes.entrySet())
+            {
+                measure(entry.getKey(), entry.getValue().toByteArray(), stats);
+            }
+        }
+
+        return errors;
+    }
+
+    private static List<JavaFileObject> sources(
+        Path sourceDirectory) throws IOException
+    {
+        try (Stream<Path> paths = Files.walk(sourceDirectory))
+        {
+            List<Path> sourcePaths = paths.filter(p -> p.toString().endsWith(".java")).collect(Collectors.toList());
+            List<JavaFileObject> sources = new ArrayList<>(sourcePaths.size());
+            for (Path sourcePath : sourcePaths)
+            {
+                String source = new String(Files.readAllBytes(sourcePath), UTF_8);
+                sources.add(new SourceFile(sourceDirectory.relativize(sourcePath).toString(), source));
+            }
+            return sources;
+        }
+    }
+
+    private static void measure(
+        String className,
+        byte[] classFile,
+        BuildStats stats) throws IOException
+    {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile)))
+        {
+            in.skipBytes(8);
+            int constantCount = in.readUnsignedShort();
+            String[] utf8 = new String[constantCount];
+            for (int index = 1; index < constantCount; index++)
+            {
+                int tag = in.readUnsignedByte();
+                switch (tag)
+                {
+                case CONSTANT_UTF8:
+                    utf8[index] = in.readUTF();
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    in.skipBytes(8);
+                    index++;
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    in.skipBytes(3);
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    in.skipBytes(2);
+                    break;
+                default:
+                    in.skipBytes(4);
+                    break;
+                }
+            }
+
+            in.skipBytes(6);
+            in.skipBytes(2 * in.readUnsignedShort());
+
+            int fieldCount = in.readUnsignedShort();
+            for (int index = 0; index < fieldCount; index++)
+            {
+                in.skipBytes(6);
+                skipAttributes(in);
+            }
+
+            int methodCount = in.readUnsignedShort();
+            for (int index = 0; index < methodCount; index++)
+            {
+                in.skipBytes(2);
+                String name = utf8[in.readUnsignedShort()];
+                String descriptor = utf8[in.readUnsignedShort()];
+                int attributeCount = in.readUnsignedShort();
+                for (int attribute = 0; attribute < attributeCount; attribute++)
+                {
+                    String attributeName = utf8[in.readUnsignedShort()];
+                    int length = in.readInt();
+                    if ("Code".equals(attributeName))
+                    {
+                        in.skipBytes(4);
+                        int codeLength = in.readInt();
+                        if (codeLength > FREQ_INLINE_SIZE)
+                        {
+                            stats.bytecode(className, name + descriptor, codeLength);
+                        }
+                        in.skipBytes(length - 8);
+                    }
+                    else
+                    {
+                        in.skipBytes(length);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void skipAttributes(
+        DataInputStream in) throws IOException
+    {
+        int attributeCount = in.readUnsignedShort();
+        for (int attribute = 0; attribute < attributeCount; attribute++)
+        {
+            in.skipBytes(2);
+            in.skipBytes(in.readInt());
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject
+    {
+        private final String source;
+
+        private SourceFile(
+            String path,
+            String source)
+        {
+            super(URI.create("string:///" + path.replace(File.separatorChar, '/')), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(
+            boolean ignoreEncodingErrors)
+        {
+            return source;
+        }
+    }
+
+    private static final class ClassFileManager extends ForwardingJavaFileManager<JavaFileManager>
+    {
+        private final Map<String, ByteArrayOutputStream> classes = new TreeMap<>();
+
+        private ClassFileManager(
+            JavaFileManager fileManager)
+        {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(
+            Location location,
+            String className,
+            JavaFileObject.Kind kind,
+            FileObject sibling)
+        {
+            ByteArrayOutputStream classFile = new ByteArrayOutputStream();
+            classes.put(className, classFile);
+            return new SimpleJavaFileObject(URI.create("bytes:///" + className.replace('.', '/') + kind.extension), kind)
+            {
+                @Override
+                public OutputStream openOutputStream()
+                {
+                    return classFile;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.enumeration;
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+final class ClasspathIndex
+{
+    private static final String RESOURCE_PATH = "META-INF/reaktivity/";
+    private static final String RESOURCE_SUFFIX = ".idl";
+
+    private static final ConcurrentMap<File, JarIndex> JAR_INDEXES = new ConcurrentHashMap<>();
+
+    private final Map<String, List<URL>> resources;
+    private final Set<File> entries;
+
+    ClasspathIndex()
+    {
+        this.resources = new LinkedHashMap<>();
+        this.entries = new LinkedHashSet<>();
+    }
+
+    ClasspathIndex index(
+        File entry) throws IOException
+    {
+        File file = entry.getAbsoluteFile();
+        List<String> names = file.isDirectory() ? directoryNames(file) : file.isFile() ? jarNames(file) : emptyList();
+
+        if (!names.isEmpty())
+        {
+            entries.add(file);
+            String base = file.isDirectory()
+                    ? new File(file, RESOURCE_PATH).toURI().toString()
+                    : String.format("jar:%s!/%s", file.toURI(), RESOURCE_PATH);
+            for (String name : names)
+            {
+                URL resource = new URL(base + name);
+                resources.computeIfAbsent(name, n -> new ArrayList<>(1)).add(resource);
+            }
+        }
+
+        return this;
+    }
+
+    Set<File> entries()
+    {
+        return entries;
+    }
+
+    List<URL> lookup(
+        String name)
+    {
+        return resources.getOrDefault(name, emptyList());
+    }
+
+    ClassLoader newLoader(
+        URL[] directories,
+        ClassLoader parent)
+    {
+        return new IndexedClassLoader(directories, parent, this);
+    }
+
+    private static List<String> directoryNames(
+        File directory) throws IOException
+    {
+        Path root = new File(directory, RESOURCE_PATH).toPath();
+        List<String> names = emptyList();
+        if (Files.isDirectory(root))
+        {
+            try (Stream<Path> paths = Files.walk(root))
+            {
+                names = paths.filter(Files::isRegularFile)
+                             .map(p -> root.relativize(p).toString().replace(File.separatorChar, '/'))
+                             .filter(n -> n.endsWith(RESOURCE_SUFFIX))
+                             .sorted()
+                             .collect(toList());
+            }
+        }
+        return names;
+    }
+
+    private static List<String> jarNames(
+        File jar) throws IOException
+    {
+        long lastModified = jar.lastModified();
+        long length = jar.length();
+
+        JarIndex index = JAR_INDEXES.get(jar);
+        if (index == null || index.lastModified != lastModified || index.length != length)
+        {
+            index = new JarIndex(lastModified, length, scanJar(jar));
+            JAR_INDEXES.put(jar, index);
+        }
+
+        return index.names;
+    }
+
+    private static List<String> scanJar(
+        File jar) throws IOException
+    {
+        List<String> names = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jar))
+        {
+            for (Enumeration<JarEntry> jarEntries = jarFile.entries(); jarEntries.hasMoreElements();)
+            {
+                JarEntry jarEntry = jarEntries.nextElement();
+                String entryName = jarEntry.getName();
+                if (!jarEntry.isDirectory() &&
+                    entryName.startsWith(RESOURCE_PATH) &&
+                    entryName.endsWith(RESOURCE_SUFFIX))
+                {
+                    names.add(entryName.substring(RESOURCE_PATH.length()));
+                }
+            }
+        }
+        catch (IOException ex)
+        {
+            // not a readable jar, contributes no resources
+        }
+        names.sort(null);
+        return unmodifiableList(names);
+    }
+
+    private static final class JarIndex
+    {
+        private final long lastModified;
+        private final long length;
+        private final List<String> names;
+
+        private JarIndex(
+            long lastModified,
+            long length,
+            List<String> names)
+        {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.names = names;
+        }
+    }
+
+    private static final class IndexedClassLoader extends URLClassLoader
+    {
+        private final ClasspathIndex index;
+
+        private IndexedClassLoader(
+            URL[] directories,
+            ClassLoader parent,
+            ClasspathIndex index)
+        {
+            super(directories, parent);
+            this.index = index;
+        }
+
+        @Override
+        public URL findResource(
+            String name)
+        {
+            URL resource = super.findResource(name);
+            if (resource == null)
+            {
+                List<URL> indexed = index.lookup(name);
+                resource = indexed.isEmpty() ? null : indexed.get(0);
+            }
+            return resource;
+        }
+
+        @Override
+        public Enumeration<URL> findResources(
+            String name) throws IOException
+        {
+            List<URL> resources = new ArrayList<>();
+            for (Enumeration<URL> found = super.findResources(name); found.hasMoreElements();)
+            {
+                resources.add(found.nextElement());
+            }
+            resources.addAll(index.lookup(name));
+            return enumeration(resources);
+        }
+    }
+}
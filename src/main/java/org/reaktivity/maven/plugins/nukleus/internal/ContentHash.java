@@ -0,0 +1,68 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+final class ContentHash
+{
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    static byte[] read(
+        URL resource) throws IOException
+    {
+        try (InputStream input = resource.openStream())
+        {
+            return input.readAllBytes();
+        }
+    }
+
+    static String of(
+        URL resource) throws IOException
+    {
+        return of(read(resource));
+    }
+
+    static String of(
+        byte[] content)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(content);
+            char[] hex = new char[hash.length << 1];
+            for (int i = 0; i < hash.length; i++)
+            {
+                hex[i << 1] = HEX_DIGITS[(hash[i] >> 4) & 0x0f];
+                hex[(i << 1) + 1] = HEX_DIGITS[hash[i] & 0x0f];
+            }
+            return new String(hex);
+        }
+        catch (NoSuchAlgorithmException ex)
+        {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private ContentHash()
+    {
+        // utility class
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the core flyweight types referenced by generated sources, by simple name,
+ * so that only the core types reachable from the generated types need to be emitted.
+ */
+final class CoreReachability
+{
+    private final Pattern references;
+
+    CoreReachability(
+        Collection<String> coreNames)
+    {
+        this.references = Pattern.compile(coreNames.stream().map(Pattern::quote).collect(joining("|", "\\b(", ")\\b")));
+    }
+
+    void scan(
+        CharSequence source,
+        Collection<String> referenced)
+    {
+        Matcher matcher = references.matcher(source);
+        while (matcher.find())
+        {
+            referenced.add(matcher.group(1));
+        }
+    }
+
+    Set<String> closure(
+        Collection<String> roots,
+        Map<String, ? extends CharSequence> coreSources)
+    {
+        Set<String> reachable = new TreeSet<>();
+        Deque<String> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty())
+        {
+            String name = pending.pop();
+            if (reachable.add(name))
+            {
+                CharSequence source = coreSources.get(name);
+                if (source != null)
+                {
+                    scan(source, pending);
+                }
+            }
+        }
+        return reachable;
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static org.apache.maven.plugins.annotations.LifecyclePhase.GENERATE_SOURCES;
+import static org.apache.maven.plugins.annotations.ResolutionScope.COMPILE;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Generates the core flyweight types once, into a shared runtime package, for use by
+ * modules generating with a matching {@code corePackageName}.
+ */
+@Mojo(name = "generate-core",
+      defaultPhase = GENERATE_SOURCES,
+      requiresDependencyResolution = COMPILE,
+      requiresProject = true)
+public final class GenerateCoreMojo extends AbstractMojo
+{
+    @Parameter(required = true)
+    protected String packageName;
+
+    @Parameter(defaultValue = "${project.build.directory}/generated-sources/reaktivity")
+    protected File outputDirectory;
+
+    @Parameter(defaultValue = "${project.build.directory}/reaktivity/generate-core.manifest")
+    protected File manifestFile;
+
+    @Parameter(defaultValue = "${project.build.directory}/reaktivity/generate-core-report.json")
+    protected File reportFile;
+
+    @Parameter(defaultValue = "false")
+    protected boolean bytecodeReport;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException
+    {
+        try
+        {
+            executeImpl();
+        }
+        catch (IOException e)
+        {
+            throw new MojoFailureException("Unable to generate core sources", e);
+        }
+    }
+
+    @Override
+    protected void executeImpl() throws IOException
+    {
+        BuildStats stats = new BuildStats();
+        long totalStart = System.nanoTime();
+
+        Generator generator = new Generator();
+        generator.debug(getLog()::debug);
+        generator.error(getLog()::error);
+        generator.warn(getLog()::warn);
+        generator.refresh(p -> buildContext.refresh(p.toFile()));
+        generator.stats(stats);
+        generator.setPackageName(packageName);
+        generator.setOutputDirectory(outputDirectory);
+        generator.setScopeNames("");
+        generator.setManifestFile(manifestFile);
+        generator.setVersion(pluginVersion);
+        generator.setEmitAllCoreTypes(true);
+        generator.setBytecodeReport(bytecodeReport);
+        generator.setClasspath(classpath());
+        generator.generate(createLoader(stats));
+        stats.phase("total", totalStart);
+        report(stats, reportFile);
+        project.addCompileSourceRoot(outputDirectory.getPath());
+    }
+}
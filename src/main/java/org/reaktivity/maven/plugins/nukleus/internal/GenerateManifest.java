@@ -0,0 +1,296 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptySortedSet;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+final class GenerateManifest
+{
+    private static final String VERSION_KEY = "version";
+    private static final String PACKAGE_KEY = "package";
+    private static final String SCOPES_KEY = "scopes";
+    private static final String OPTIONS_KEY = "options";
+    private static final String CORE_OUTPUTS_KEY = "core.outputs";
+    private static final String HASH_KEY_PREFIX = "hash.";
+    private static final String DEPENDS_KEY_PREFIX = "depends.";
+    private static final String OUTPUTS_KEY_PREFIX = "outputs.";
+    private static final String REFERENCES_KEY_PREFIX = "references.";
+
+    private final String version;
+    private final String packageName;
+    private final String scopeNames;
+    private final String options;
+    private final SortedMap<String, String> hashes;
+    private final SortedMap<String, SortedSet<String>> dependencies;
+    private final SortedMap<String, SortedSet<String>> outputs;
+    private final SortedMap<String, SortedSet<String>> references;
+    private final SortedSet<String> coreOutputs;
+
+    GenerateManifest(
+        String version,
+        String packageName,
+        String scopeNames,
+        String options)
+    {
+        this.version = Objects.toString(version, "");
+        this.packageName = Objects.toString(packageName, "");
+        this.scopeNames = Objects.toString(scopeNames, "");
+        this.options = Objects.toString(options, "");
+        this.hashes = new TreeMap<>();
+        this.dependencies = new TreeMap<>();
+        this.outputs = new TreeMap<>();
+        this.references = new TreeMap<>();
+        this.coreOutputs = new TreeSet<>();
+    }
+
+    boolean matches(
+        String version,
+        String packageName,
+        String scopeNames,
+        String options)
+    {
+        return this.version.equals(Objects.toString(version, "")) &&
+            this.packageName.equals(Objects.toString(packageName, "")) &&
+            this.scopeNames.equals(Objects.toString(scopeNames, "")) &&
+            this.options.equals(Objects.toString(options, ""));
+    }
+
+    void resource(
+        ParsedResource resource,
+        Collection<String> resourceOutputs,
+        Collection<String> coreReferences)
+    {
+        String name = resource.name();
+        hashes.put(name, resource.hash());
+        dependencies.put(name, new TreeSet<>(resource.dependencies()));
+        outputs.put(name, new TreeSet<>(resourceOutputs));
+        references.put(name, new TreeSet<>(coreReferences));
+    }
+
+    SortedSet<String> references(
+        String resourceName)
+    {
+        return references.getOrDefault(resourceName, emptySortedSet());
+    }
+
+    void core(
+        Collection<String> outputs)
+    {
+        coreOutputs.clear();
+        coreOutputs.addAll(outputs);
+    }
+
+    SortedSet<String> outputs(
+        String resourceName)
+    {
+        return outputs.getOrDefault(resourceName, emptySortedSet());
+    }
+
+    SortedSet<String> coreOutputs()
+    {
+        return coreOutputs;
+    }
+
+    SortedSet<String> allOutputs()
+    {
+        SortedSet<String> allOutputs = new TreeSet<>(coreOutputs);
+        outputs.values().forEach(allOutputs::addAll);
+        return allOutputs;
+    }
+
+    boolean isCoreUpToDate(
+        Path outputDirectory)
+    {
+        return !coreOutputs.isEmpty() && exists(outputDirectory, coreOutputs);
+    }
+
+    boolean isUpToDate(
+        ClassLoader loader,
+        List<String> targetScopes,
+        Path outputDirectory) throws IOException
+    {
+        Set<String> unresolved = new HashSet<>();
+        targetScopes.stream().map(ParsedResource::resourceName).forEach(unresolved::add);
+        dependencies.values().forEach(unresolved::addAll);
+        unresolved.removeAll(hashes.keySet());
+
+        for (String resourceName : unresolved)
+        {
+            if (loader.getResource(resourceName) != null)
+            {
+                return false;
+            }
+        }
+
+        for (Map.Entry<String, String> entry : hashes.entrySet())
+        {
+            URL resource = loader.getResource(entry.getKey());
+            if (resource == null || !entry.getValue().equals(ContentHash.of(resource)))
+            {
+                return false;
+            }
+        }
+
+        return exists(outputDirectory, coreOutputs) &&
+            outputs.values().stream().allMatch(o -> exists(outputDirectory, o));
+    }
+
+    SortedSet<String> affectedResources(
+        List<ParsedResource> resources,
+        Path outputDirectory)
+    {
+        SortedSet<String> affected = new TreeSet<>();
+        for (ParsedResource resource : resources)
+        {
+            String name = resource.name();
+            if (!resource.hash().equals(hashes.get(name)) ||
+                !resource.dependencies().equals(dependencies.get(name)) ||
+                !exists(outputDirectory, outputs(name)))
+            {
+                affected.add(name);
+            }
+        }
+
+        boolean propagating = !affected.isEmpty();
+        while (propagating)
+        {
+            propagating = false;
+            for (ParsedResource resource : resources)
+            {
+                if (!affected.contains(resource.name()) &&
+                    resource.dependencies().stream().anyMatch(affected::contains))
+                {
+                    affected.add(resource.name());
+                    propagating = true;
+                }
+            }
+        }
+
+        return affected;
+    }
+
+    static GenerateManifest load(
+        File manifestFile) throws IOException
+    {
+        GenerateManifest manifest = null;
+
+        if (manifestFile.isFile())
+        {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(manifestFile.toPath(), UTF_8))
+            {
+                properties.load(reader);
+            }
+
+            manifest = new GenerateManifest(
+                properties.getProperty(VERSION_KEY),
+                properties.getProperty(PACKAGE_KEY),
+                properties.getProperty(SCOPES_KEY),
+                properties.getProperty(OPTIONS_KEY));
+            manifest.coreOutputs.addAll(split(properties.getProperty(CORE_OUTPUTS_KEY)));
+
+            for (String key : properties.stringPropertyNames())
+            {
+                if (key.startsWith(HASH_KEY_PREFIX))
+                {
+                    String name = key.substring(HASH_KEY_PREFIX.length());
+                    manifest.hashes.put(name, properties.getProperty(key));
+                    manifest.dependencies.put(name, split(properties.getProperty(DEPENDS_KEY_PREFIX + name)));
+                    manifest.outputs.put(name, split(properties.getProperty(OUTPUTS_KEY_PREFIX + name)));
+                    manifest.references.put(name, split(properties.getProperty(REFERENCES_KEY_PREFIX + name)));
+                }
+            }
+        }
+
+        return manifest;
+    }
+
+    void store(
+        File manifestFile) throws IOException
+    {
+        File parentFile = manifestFile.getAbsoluteFile().getParentFile();
+        if (parentFile != null)
+        {
+            Files.createDirectories(parentFile.toPath());
+        }
+
+        try (Writer writer = Files.newBufferedWriter(manifestFile.toPath(), UTF_8))
+        {
+            writeEntry(writer, VERSION_KEY, version);
+            writeEntry(writer, PACKAGE_KEY, packageName);
+            writeEntry(writer, SCOPES_KEY, scopeNames);
+            writeEntry(writer, OPTIONS_KEY, options);
+            writeEntry(writer, CORE_OUTPUTS_KEY, String.join(",", coreOutputs));
+            for (String name : hashes.keySet())
+            {
+                writeEntry(writer, HASH_KEY_PREFIX + name, hashes.get(name));
+                writeEntry(writer, DEPENDS_KEY_PREFIX + name, String.join(",", dependencies.get(name)));
+                writeEntry(writer, OUTPUTS_KEY_PREFIX + name, String.join(",", outputs.get(name)));
+                writeEntry(writer, REFERENCES_KEY_PREFIX + name, String.join(",", references.get(name)));
+            }
+        }
+    }
+
+    private static void writeEntry(
+        Writer writer,
+        String key,
+        String value) throws IOException
+    {
+        writer.write(key);
+        writer.write('=');
+        writer.write(value);
+        writer.write('\n');
+    }
+
+    private static SortedSet<String> split(
+        String value)
+    {
+        SortedSet<String> values = new TreeSet<>();
+        if (value != null && !value.isEmpty())
+        {
+            values.addAll(Arrays.asList(value.split(",")));
+        }
+        return values;
+    }
+
+    private static boolean exists(
+        Path outputDirectory,
+        Collection<String> paths)
+    {
+        return paths.stream().allMatch(p -> Files.isRegularFile(outputDirectory.resolve(p)));
+    }
+}
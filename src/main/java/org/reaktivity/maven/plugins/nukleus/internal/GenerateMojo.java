@@ -32,12 +32,33 @@ import org.apache.maven.plugins.annotations.Parameter;
       requiresProject = true)
 public final class GenerateMojo extends AbstractMojo
 {
+    @Parameter(required = true)
+    protected String scopeNames;
+
     @Parameter(defaultValue = "")
     protected String packageName;
 
     @Parameter(defaultValue = "${project.build.directory}/generated-sources/reaktivity")
     protected File outputDirectory;
 
+    @Parameter(defaultValue = "${project.build.directory}/reaktivity/generate.manifest")
+    protected File manifestFile;
+
+    @Parameter(defaultValue = "${project.build.directory}/reaktivity/generate-report.json")
+    protected File reportFile;
+
+    @Parameter(defaultValue = "false")
+    protected boolean bytecodeReport;
+
+    @Parameter(defaultValue = "false")
+    protected boolean lazyLists;
+
+    @Parameter(defaultValue = "false")
+    protected boolean emitAllCoreTypes;
+
+    @Parameter
+    protected String corePackageName;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException
     {
@@ -54,15 +75,38 @@ public final class GenerateMojo extends AbstractMojo
     @Override
     protected void executeImpl() throws IOException
     {
+        if (isIncrementallyUpToDate(manifestFile))
+        {
+            getLog().debug("No IDL changes since last incremental build");
+            project.addCompileSourceRoot(outputDirectory.getPath());
+            return;
+        }
+
+        BuildStats stats = new BuildStats();
+        long totalStart = System.nanoTime();
+
         Generator generator = new Generator();
         generator.debug(getLog()::debug);
         generator.error(getLog()::error);
         generator.warn(getLog()::warn);
+        generator.refresh(p -> buildContext.refresh(p.toFile()));
+        generator.stats(stats);
         generator.setPackageName(packageName);
         generator.setInputDirectory(inputDirectory);
         generator.setOutputDirectory(outputDirectory);
         generator.setScopeNames(scopeNames);
-        generator.generate(createLoader());
+        generator.setManifestFile(manifestFile);
+        generator.setVersion(pluginVersion);
+        generator.setParallelism(parallelism());
+        generator.setEmitAllCoreTypes(emitAllCoreTypes);
+        generator.setCorePackageName(corePackageName);
+        generator.setAstCacheDirectory(astCacheDirectory);
+        generator.setBytecodeReport(bytecodeReport);
+        generator.setLazyLists(lazyLists);
+        generator.setClasspath(classpath());
+        generator.generate(createLoader(stats));
+        stats.phase("total", totalStart);
+        report(stats, reportFile);
         project.addCompileSourceRoot(outputDirectory.getPath());
     }
 }
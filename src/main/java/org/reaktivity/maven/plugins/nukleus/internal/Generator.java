@@ -15,19 +15,46 @@
  */
 package org.reaktivity.maven.plugins.nukleus.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 import org.reaktivity.maven.plugins.nukleus.internal.ast.AstSpecificationNode;
@@ -70,12 +97,30 @@ import com.squareup.javapoet.TypeVariableName;
 
 public class Generator
 {
+    private static final long WATCH_SETTLE_MILLIS = 50L;
+    private static final int WRITE_BATCH_FACTOR = 4;
+
     private String scopeNames = "test";
     private File inputDirectory = new File("src/test/resources/test-project");
-    private File outputDirectory = new File("target/generated-test-sources/test-reaktivity");
+    private Path outputDirectory = Paths.get("target/generated-test-sources/test-reaktivity");
     private String packageName = "org.reaktivity.reaktor.internal.test.types";
+    private String corePackageName;
+
+    private String version = Objects.toString(Generator.class.getPackage().getImplementationVersion(), "develop-SNAPSHOT");
+    private File manifestFile;
+    private int parallelism = 1;
+    private boolean emitAllCoreTypes = true;
+    private boolean bytecodeReport;
+    private boolean lazyLists;
+    private List<String> classpath = asList(System.getProperty("java.class.path").split(File.pathSeparator));
 
     private Parser parser = new Parser();
+    private GenerateManifest residentManifest;
+    private Consumer<String> error = System.err::println;
+    private Consumer<String> warn = System.err::println;
+    private Consumer<String> debug = s -> {};
+    private Consumer<Path> refresh = p -> {};
+    private BuildStats stats = new BuildStats();
 
     public static void main(
         String[] args) throws IOException
@@ -84,6 +129,7 @@ public class Generator
         generator.error(System.out::println)
                  .warn(System.out::println);
         boolean verbose = false;
+        boolean watch = false;
         if (args.length > 0)
         {
             for (int i = 0; i < args.length; i++)
@@ -93,11 +139,40 @@ public class Generator
                 case "-v":
                     verbose = true;
                     break;
+                case "-w":
+                    watch = true;
+                    break;
                 case "-d":
                     final String baseDir = args[i + 1];
                     i++;
                     generator.inputDirectory = new File(baseDir + "/src/test/resources/test-project");
-                    generator.outputDirectory = new File(baseDir + "/target/generated-test-sources/test-reaktivity");
+                    generator.outputDirectory = Paths.get(baseDir + "/target/generated-test-sources/test-reaktivity");
+                    break;
+                case "-s":
+                    generator.setScopeNames(args[i + 1]);
+                    i++;
+                    break;
+                case "-n":
+                    generator.setPackageName(args[i + 1]);
+                    i++;
+                    break;
+                case "-c":
+                    generator.setCorePackageName(args[i + 1]);
+                    i++;
+                    break;
+                case "-l":
+                    generator.setLazyLists(true);
+                    break;
+                case "-b":
+                    generator.setBytecodeReport(true);
+                    break;
+                case "-r":
+                    generator.setEmitAllCoreTypes(false);
+                    break;
+                case "-p":
+                    generator.setParallelism(Integer.parseInt(args[i + 1]));
+                    i++;
+                    break;
                 }
             }
         }
@@ -105,7 +180,22 @@ public class Generator
         {
             generator.debug(System.out::println);
         }
-        generator.generate();
+
+        if (watch)
+        {
+            try
+            {
+                generator.watch();
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        else
+        {
+            generator.generate();
+        }
     }
 
     void generate() throws IOException
@@ -115,103 +205,594 @@ public class Generator
 
     void generate(ClassLoader loader) throws IOException
     {
-        List<String> targetScopes = unmodifiableList(asList(scopeNames.split("\\s+")));
-        List<AstSpecificationNode> specifications = parser.parseAST(targetScopes, loader);
+        List<String> targetScopes = targetScopes();
+        String corePackage = corePackageName();
+        boolean sharedCore = !corePackage.equals(packageName);
 
-        TypeResolver resolver = new TypeResolver(packageName);
-        specifications.forEach(resolver::visit);
+        long manifestStart = System.nanoTime();
+        GenerateManifest loaded = loadManifest();
+        GenerateManifest previous = loaded != null && loaded.matches(version, packageName, scopeNames, options()) ? loaded : null;
 
-        Collection<TypeSpecGenerator<?>> typeSpecs = new HashSet<>();
-        for (AstSpecificationNode specification : specifications)
+        boolean upToDate = previous != null && previous.isUpToDate(loader, targetScopes, outputDirectory);
+        stats.phase("manifest", manifestStart);
+        if (upToDate)
         {
-            String scopeName = specification.scope().name();
-            ScopeVisitor visitor = new ScopeVisitor(scopeName, packageName, resolver, targetScopes);
-            typeSpecs.addAll(specification.accept(visitor));
+            debug.accept("Generated sources are up to date in " + outputDirectory);
+            return;
         }
 
-        ClassName flyweightType = resolver.resolveClass(AstType.FLYWEIGHT);
-        ClassName stringType = resolver.resolveClass(AstType.STRING);
-        ParameterizedTypeName arrayType = ParameterizedTypeName.get(resolver.resolveClass(AstType.ARRAY),
-                TypeVariableName.get("V", flyweightType));
-        ClassName listType = resolver.resolveClass(AstType.LIST);
-        ParameterizedTypeName mapType = ParameterizedTypeName.get(resolver.resolveClass(AstType.MAP),
-                TypeVariableName.get("K", flyweightType), TypeVariableName.get("V", flyweightType));
-        ClassName boundedOctetsType = resolver.resolveClass(AstType.BOUNDED_OCTETS);
+        long resolveStart = System.nanoTime();
+        List<ParsedResource> resources = parser.parseResources(targetScopes, loader);
+        stats.phase("resolve", resolveStart);
+
+        long typeResolverStart = System.nanoTime();
+        TypeResolver resolver = new TypeResolver(packageName, corePackage);
+        resources.stream().map(ParsedResource::specification).forEach(resolver::visit);
+        stats.phase("typeResolver", typeResolverStart);
 
-        typeSpecs.add(new FlyweightGenerator(flyweightType, arrayType));
-        typeSpecs.add(new OctetsFlyweightGenerator(flyweightType));
-        typeSpecs.add(new StringFlyweightGenerator(flyweightType));
-        typeSpecs.add(new String8FlyweightGenerator(stringType));
-        typeSpecs.add(new String16FlyweightGenerator(stringType));
-        typeSpecs.add(new String32FlyweightGenerator(stringType));
-        typeSpecs.add(new VarStringFlyweightGenerator(stringType));
-        typeSpecs.add(new ArrayFWGenerator(flyweightType));
-        typeSpecs.add(new Array8FWGenerator(flyweightType, arrayType));
-        typeSpecs.add(new Array16FWGenerator(flyweightType, arrayType));
-        typeSpecs.add(new Array32FWGenerator(flyweightType, arrayType));
-        typeSpecs.add(new Varint32FlyweightGenerator(flyweightType));
-        typeSpecs.add(new Varint64FlyweightGenerator(flyweightType));
-        typeSpecs.add(new Varuint32FlyweightGenerator(flyweightType));
-        typeSpecs.add(new Varuint32nFlyweightGenerator(flyweightType));
-        typeSpecs.add(new ListFWGenerator(flyweightType));
-        typeSpecs.add(new List32FWGenerator(flyweightType, listType));
-        typeSpecs.add(new List8FWGenerator(flyweightType, listType));
-        typeSpecs.add(new List0FWGenerator(flyweightType, listType));
-        typeSpecs.add(new MapFWGenerator(flyweightType, mapType));
-        typeSpecs.add(new Map8FWGenerator(flyweightType, mapType));
-        typeSpecs.add(new Map16FWGenerator(flyweightType, mapType));
-        typeSpecs.add(new Map32FWGenerator(flyweightType, mapType));
-        typeSpecs.add(new BoundedOctetsFlyweightGenerator(flyweightType));
-        typeSpecs.add(new BoundedOctets8FlyweightGenerator(flyweightType, boundedOctetsType));
-        typeSpecs.add(new BoundedOctets16FlyweightGenerator(flyweightType, boundedOctetsType));
-        typeSpecs.add(new BoundedOctets32FlyweightGenerator(flyweightType, boundedOctetsType));
+        Set<String> affectedResources = previous != null
+                ? previous.affectedResources(resources, outputDirectory)
+                : resources.stream().map(ParsedResource::name).collect(toSet());
+        debug.accept("affected resources: " + affectedResources);
 
         System.out.println("Generating to " + outputDirectory);
 
-        if (outputDirectory.exists())
+        GenerateManifest manifest = new GenerateManifest(version, packageName, scopeNames, options());
+        Set<String> staleOutputs = loaded != previous ? new TreeSet<>(loaded.allOutputs()) : new TreeSet<>();
+        Collection<TypeSpecGenerator<?>> coreTypeSpecs = coreTypeSpecs(resolver);
+        CoreReachability reachability = emitAllCoreTypes || sharedCore ? null : new CoreReachability(
+                coreTypeSpecs.stream().map(t -> t.className().simpleName()).collect(toList()));
+        Set<String> coreReferences = new TreeSet<>();
+        TypeSpecWriter writer = new TypeSpecWriter(reachability);
+        try
+        {
+            for (ParsedResource resource : resources)
+            {
+                String resourceName = resource.name();
+                if (affectedResources.contains(resourceName))
+                {
+                    AstSpecificationNode specification = resource.specification();
+                    String scopeName = specification.scope().name();
+                    Set<String> outputs = writer.begin(scopeName);
+                    long scopeVisitorStart = System.nanoTime();
+                    specification.accept(new ScopeVisitor(scopeName, packageName, resolver, targetScopes, writer)
+                        .lazyLists(lazyLists));
+                    stats.elapsed("scopeVisitor", System.nanoTime() - scopeVisitorStart - writer.end());
+                    manifest.resource(resource, outputs, writer.references);
+                    coreReferences.addAll(writer.references);
+
+                    if (previous != null)
+                    {
+                        previous.outputs(resourceName).stream().filter(o -> !outputs.contains(o)).forEach(staleOutputs::add);
+                    }
+                }
+                else
+                {
+                    manifest.resource(resource, previous.outputs(resourceName), previous.references(resourceName));
+                    coreReferences.addAll(previous.references(resourceName));
+                }
+            }
+
+            if (sharedCore)
+            {
+                if (previous != null)
+                {
+                    staleOutputs.addAll(previous.coreOutputs());
+                }
+            }
+            else if (reachability != null)
+            {
+                Set<String> outputs = writeReachableCoreTypes(coreTypeSpecs, reachability, coreReferences, writer);
+                manifest.core(outputs);
+
+                if (previous != null)
+                {
+                    previous.coreOutputs().stream().filter(o -> !outputs.contains(o)).forEach(staleOutputs::add);
+                }
+            }
+            else if (previous != null && previous.isCoreUpToDate(outputDirectory))
+            {
+                manifest.core(previous.coreOutputs());
+            }
+            else
+            {
+                Set<String> outputs = writer.begin("core");
+                coreTypeSpecs.forEach(writer);
+                writer.end();
+                manifest.core(outputs);
+            }
+        }
+        catch (UncheckedIOException ex)
+        {
+            throw ex.getCause();
+        }
+        finally
         {
-            Files.walk(outputDirectory.toPath())
-                 .map(Path::toFile)
-                 .filter(File::isFile)
-                 .forEach(f -> f.setWritable(true));
+            writer.close();
         }
 
-        for (TypeSpecGenerator<?> typeSpec : typeSpecs)
+        staleOutputs.removeAll(manifest.allOutputs());
+        deleteStaleOutputs(staleOutputs);
+        reportBytecode();
+
+        debug.accept(String.format("wrote %d of %d generated sources", writer.written.size(), writer.generated));
+        writer.written.forEach(refresh);
+
+        residentManifest = manifest;
+        if (manifestFile != null)
         {
-            JavaFile sourceFile = JavaFile.builder(typeSpec.className().packageName(), typeSpec.generate())
-                    .addFileComment("TODO: license")
-                    .skipJavaLangImports(true)
-                    .build();
-            sourceFile.writeTo(outputDirectory);
+            manifest.store(manifestFile);
         }
+    }
 
-        if (outputDirectory.exists())
+    private List<String> targetScopes()
+    {
+        return unmodifiableList(Arrays.stream(scopeNames.split("\\s+"))
+                .filter(s -> !s.isEmpty())
+                .collect(toList()));
+    }
+
+    private GenerateManifest loadManifest() throws IOException
+    {
+        return residentManifest != null ? residentManifest
+                : manifestFile != null ? GenerateManifest.load(manifestFile) : null;
+    }
+
+    private void reportBytecode() throws IOException
+    {
+        if (bytecodeReport)
         {
-            Files.walk(outputDirectory.toPath())
-                 .map(Path::toFile)
-                 .filter(File::isFile)
-                 .forEach(f -> f.setWritable(false));
+            if (BytecodeReport.isAvailable())
+            {
+                long bytecodeStart = System.nanoTime();
+                List<String> errors = new BytecodeReport(classpath).measure(outputDirectory, stats);
+                stats.phase("bytecode", bytecodeStart);
+                errors.forEach(error);
+
+                for (BuildStats.MethodStats method : stats.largest())
+                {
+                    if (method.bytes > BytecodeReport.HUGE_METHOD_LIMIT)
+                    {
+                        warn.accept(String.format("%s.%s is %d bytes, above HugeMethodLimit (%d bytes) so never compiled",
+                            method.type, method.method, method.bytes, BytecodeReport.HUGE_METHOD_LIMIT));
+                    }
+                    else
+                    {
+                        debug.accept(String.format("%s.%s is %d bytes, above FreqInlineSize (%d bytes)",
+                            method.type, method.method, method.bytes, BytecodeReport.FREQ_INLINE_SIZE));
+                    }
+                }
+            }
+            else
+            {
+                warn.accept("Skipping bytecode report, no system Java compiler available");
+            }
+        }
+    }
+
+    private void deleteStaleOutputs(
+        Set<String> staleOutputs) throws IOException
+    {
+        for (String staleOutput : staleOutputs)
+        {
+            debug.accept("deleting stale output: " + staleOutput);
+            Path stalePath = outputDirectory.resolve(staleOutput);
+            setWritable(stalePath, true);
+            if (Files.deleteIfExists(stalePath))
+            {
+                refresh.accept(stalePath);
+            }
         }
     }
 
+    private Set<String> writeReachableCoreTypes(
+        Collection<TypeSpecGenerator<?>> coreTypeSpecs,
+        CoreReachability reachability,
+        Set<String> coreReferences,
+        TypeSpecWriter writer) throws IOException
+    {
+        Map<String, JavaFile> coreFiles = new HashMap<>();
+        Map<String, String> coreSources = new HashMap<>();
+        for (TypeSpecGenerator<?> typeSpec : coreTypeSpecs)
+        {
+            JavaFile sourceFile = generate(typeSpec);
+            long emitStart = System.nanoTime();
+            String source = sourceFile.toString();
+            stats.phase("emit", emitStart);
+            coreFiles.put(sourceFile.typeSpec.name, sourceFile);
+            coreSources.put(sourceFile.typeSpec.name, source);
+        }
+
+        Set<String> outputs = new TreeSet<>();
+        Set<String> reachable = reachability.closure(coreReferences, coreSources);
+        debug.accept("reachable core types: " + reachable);
+        for (TypeSpecGenerator<?> typeSpec : coreTypeSpecs)
+        {
+            String name = typeSpec.className().simpleName();
+            if (reachable.contains(name))
+            {
+                String source = coreSources.get(name);
+                stats.generated("core", typeSpec.className().reflectionName(), lineCount(source), 0L);
+                write(coreFiles.get(name), source, writer.written);
+                outputs.add(outputOf(typeSpec));
+                writer.generated++;
+            }
+        }
+        return outputs;
+    }
+
+    void watch() throws IOException, InterruptedException
+    {
+        watch(createClassLoader());
+    }
+
+    void watch(
+        ClassLoader loader) throws IOException, InterruptedException
+    {
+        Path inputPath = inputDirectory.toPath();
+        try (WatchService watcher = inputPath.getFileSystem().newWatchService())
+        {
+            inputPath.register(watcher, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            regenerate(loader);
+            System.out.println("Watching " + inputDirectory);
+
+            while (!Thread.currentThread().isInterrupted())
+            {
+                WatchKey key = watcher.take();
+                boolean changed = false;
+                while (key != null)
+                {
+                    for (WatchEvent<?> event : key.pollEvents())
+                    {
+                        changed |= event.kind() == OVERFLOW || event.context().toString().endsWith(".idl");
+                    }
+                    key.reset();
+                    key = watcher.poll(WATCH_SETTLE_MILLIS, MILLISECONDS);
+                }
+
+                if (changed)
+                {
+                    regenerate(loader);
+                }
+            }
+        }
+    }
+
+    private void regenerate(
+        ClassLoader loader)
+    {
+        long start = System.nanoTime();
+        try
+        {
+            generate(loader);
+            debug.accept(String.format("regenerated in %d ms", NANOSECONDS.toMillis(System.nanoTime() - start)));
+        }
+        catch (IOException | RuntimeException ex)
+        {
+            error.accept(String.format("Generation failed: %s", ex));
+        }
+    }
+
+    private final class TypeSpecWriter implements Consumer<TypeSpecGenerator<?>>, AutoCloseable
+    {
+        private final List<TypeSpecGenerator<?>> batch;
+        private final int batchSize;
+        private final ForkJoinPool pool;
+        private final Collection<Path> written;
+        private final CoreReachability reachability;
+
+        private String scope;
+        private Set<String> outputs;
+        private Set<String> references;
+        private long writeNanos;
+        private int generated;
+
+        private TypeSpecWriter(
+            CoreReachability reachability)
+        {
+            this.reachability = reachability;
+            this.batchSize = parallelism > 1 ? parallelism * WRITE_BATCH_FACTOR : 1;
+            this.batch = new ArrayList<>(batchSize);
+            this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+            this.written = new ConcurrentLinkedQueue<>();
+        }
+
+        @Override
+        public void accept(
+            TypeSpecGenerator<?> typeSpec)
+        {
+            outputs.add(outputOf(typeSpec));
+            batch.add(typeSpec);
+            generated++;
+            if (batch.size() >= batchSize)
+            {
+                flush();
+            }
+        }
+
+        @Override
+        public void close()
+        {
+            if (pool != null)
+            {
+                pool.shutdown();
+            }
+        }
+
+        private Set<String> begin(
+            String scope)
+        {
+            this.scope = scope;
+            this.outputs = new TreeSet<>();
+            this.references = ConcurrentHashMap.newKeySet();
+            this.writeNanos = 0L;
+            return outputs;
+        }
+
+        private long end()
+        {
+            flush();
+            return writeNanos;
+        }
+
+        private void flush()
+        {
+            long flushStart = System.nanoTime();
+            try
+            {
+                if (pool != null)
+                {
+                    writeParallel();
+                }
+                else
+                {
+                    for (TypeSpecGenerator<?> typeSpec : batch)
+                    {
+                        scan(generateAndWrite(typeSpec, scope, written));
+                    }
+                }
+            }
+            catch (IOException ex)
+            {
+                throw new UncheckedIOException(ex);
+            }
+            finally
+            {
+                batch.clear();
+                writeNanos += System.nanoTime() - flushStart;
+            }
+        }
+
+        private void writeParallel() throws IOException
+        {
+            try
+            {
+                pool.submit(() -> batch.parallelStream().forEach(t -> scan(generateAndWriteUnchecked(t, scope, written)))).get();
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while generating sources");
+            }
+            catch (ExecutionException ex)
+            {
+                Throwable cause = ex.getCause();
+                if (cause instanceof UncheckedIOException)
+                {
+                    throw ((UncheckedIOException) cause).getCause();
+                }
+                if (cause instanceof RuntimeException)
+                {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error)
+                {
+                    throw (Error) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+
+        private void scan(
+            String source)
+        {
+            if (reachability != null)
+            {
+                reachability.scan(source, references);
+            }
+        }
+    }
+
+    private String generateAndWriteUnchecked(
+        TypeSpecGenerator<?> typeSpec,
+        String scope,
+        Collection<Path> written)
+    {
+        try
+        {
+            return generateAndWrite(typeSpec, scope, written);
+        }
+        catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String generateAndWrite(
+        TypeSpecGenerator<?> typeSpec,
+        String scope,
+        Collection<Path> written) throws IOException
+    {
+        long generateStart = System.nanoTime();
+        JavaFile sourceFile = generate(typeSpec);
+
+        long emitStart = System.nanoTime();
+        String source = sourceFile.toString();
+        stats.phase("emit", emitStart);
+        long generateNanos = System.nanoTime() - generateStart;
+        stats.generated(scope, typeSpec.className().reflectionName(), lineCount(source), generateNanos);
+
+        write(sourceFile, source, written);
+        return source;
+    }
+
+    private JavaFile generate(
+        TypeSpecGenerator<?> typeSpec)
+    {
+        long generateStart = System.nanoTime();
+        JavaFile sourceFile = JavaFile.builder(typeSpec.className().packageName(), typeSpec.generate())
+                .addFileComment("TODO: license")
+                .skipJavaLangImports(true)
+                .build();
+        stats.phase("generate", generateStart);
+        return sourceFile;
+    }
+
+    private void write(
+        JavaFile sourceFile,
+        String source,
+        Collection<Path> written) throws IOException
+    {
+        long writeStart = System.nanoTime();
+        Path outputPath = writeIfChanged(sourceFile, source);
+        stats.phase("write", writeStart);
+        if (outputPath != null)
+        {
+            written.add(outputPath);
+        }
+    }
+
+    private static int lineCount(
+        String source)
+    {
+        int lines = 0;
+        for (int index = source.indexOf('\n'); index != -1; index = source.indexOf('\n', index + 1))
+        {
+            lines++;
+        }
+        return lines;
+    }
+
+    private Path writeIfChanged(
+        JavaFile sourceFile,
+        String source) throws IOException
+    {
+        Path outputPath = outputDirectory;
+        for (String packageComponent : sourceFile.packageName.split("\\."))
+        {
+            outputPath = outputPath.resolve(packageComponent);
+        }
+        outputPath = outputPath.resolve(sourceFile.typeSpec.name + ".java");
+
+        byte[] content = source.getBytes(UTF_8);
+        boolean changed = !Files.isRegularFile(outputPath) || !Arrays.equals(content, Files.readAllBytes(outputPath));
+        if (changed)
+        {
+            Files.createDirectories(outputPath.getParent());
+            setWritable(outputPath, true);
+            Files.write(outputPath, content);
+            setWritable(outputPath, false);
+        }
+        return changed ? outputPath : null;
+    }
+
+    private static void setWritable(
+        Path path,
+        boolean writable)
+    {
+        if (path.getFileSystem() == FileSystems.getDefault())
+        {
+            path.toFile().setWritable(writable);
+        }
+    }
+
+    private Collection<TypeSpecGenerator<?>> coreTypeSpecs(
+        TypeResolver resolver)
+    {
+        Collection<TypeSpecGenerator<?>> coreTypeSpecs = new LinkedList<>();
+
+        ClassName flyweightType = resolver.resolveClass(AstType.FLYWEIGHT);
+        ClassName stringType = resolver.resolveClass(AstType.STRING);
+        ParameterizedTypeName arrayType = ParameterizedTypeName.get(resolver.resolveClass(AstType.ARRAY),
+                TypeVariableName.get("V", flyweightType));
+        ClassName listType = resolver.resolveClass(AstType.LIST);
+        ParameterizedTypeName mapType = ParameterizedTypeName.get(resolver.resolveClass(AstType.MAP),
+                TypeVariableName.get("K", flyweightType), TypeVariableName.get("V", flyweightType));
+        ClassName boundedOctetsType = resolver.resolveClass(AstType.BOUNDED_OCTETS);
+
+        coreTypeSpecs.add(new FlyweightGenerator(flyweightType, arrayType));
+        coreTypeSpecs.add(new OctetsFlyweightGenerator(flyweightType));
+        coreTypeSpecs.add(new StringFlyweightGenerator(flyweightType));
+        coreTypeSpecs.add(new String8FlyweightGenerator(stringType));
+        coreTypeSpecs.add(new String16FlyweightGenerator(stringType));
+        coreTypeSpecs.add(new String32FlyweightGenerator(stringType));
+        coreTypeSpecs.add(new VarStringFlyweightGenerator(stringType));
+        coreTypeSpecs.add(new ArrayFWGenerator(flyweightType));
+        coreTypeSpecs.add(new Array8FWGenerator(flyweightType, arrayType));
+        coreTypeSpecs.add(new Array16FWGenerator(flyweightType, arrayType));
+        coreTypeSpecs.add(new Array32FWGenerator(flyweightType, arrayType));
+        coreTypeSpecs.add(new Varint32FlyweightGenerator(flyweightType));
+        coreTypeSpecs.add(new Varint64FlyweightGenerator(flyweightType));
+        coreTypeSpecs.add(new Varuint32FlyweightGenerator(flyweightType));
+        coreTypeSpecs.add(new Varuint32nFlyweightGenerator(flyweightType));
+        coreTypeSpecs.add(new ListFWGenerator(flyweightType));
+        coreTypeSpecs.add(new List32FWGenerator(flyweightType, listType));
+        coreTypeSpecs.add(new List8FWGenerator(flyweightType, listType));
+        coreTypeSpecs.add(new List0FWGenerator(flyweightType, listType));
+        coreTypeSpecs.add(new MapFWGenerator(flyweightType, mapType));
+        coreTypeSpecs.add(new Map8FWGenerator(flyweightType, mapType));
+        coreTypeSpecs.add(new Map16FWGenerator(flyweightType, mapType));
+        coreTypeSpecs.add(new Map32FWGenerator(flyweightType, mapType));
+        coreTypeSpecs.add(new BoundedOctetsFlyweightGenerator(flyweightType));
+        coreTypeSpecs.add(new BoundedOctets8FlyweightGenerator(flyweightType, boundedOctetsType));
+        coreTypeSpecs.add(new BoundedOctets16FlyweightGenerator(flyweightType, boundedOctetsType));
+        coreTypeSpecs.add(new BoundedOctets32FlyweightGenerator(flyweightType, boundedOctetsType));
+
+        return coreTypeSpecs;
+    }
+
+    private static String outputOf(
+        TypeSpecGenerator<?> typeSpec)
+    {
+        ClassName className = typeSpec.className();
+        String packagePath = className.packageName().replace('.', '/');
+        return String.format("%s/%s.java", packagePath, className.simpleName());
+    }
+
     Generator debug(Consumer<String> debug)
     {
+        this.debug = debug;
         parser.debug(debug);
         return this;
     }
 
     Generator error(Consumer<String> error)
     {
+        this.error = error;
         parser.error(error);
         return this;
     }
 
     Generator warn(Consumer<String> warn)
     {
+        this.warn = warn;
         parser.warn(warn);
         return this;
     }
 
+    Generator refresh(Consumer<Path> refresh)
+    {
+        this.refresh = refresh;
+        return this;
+    }
+
+    Generator stats(BuildStats stats)
+    {
+        this.stats = stats;
+        parser.stats(stats);
+        return this;
+    }
+
     void setScopeNames(
         String scopeNames)
     {
@@ -232,10 +813,94 @@ public class Generator
 
     void setOutputDirectory(
         File outputDirectory)
+    {
+        this.outputDirectory = outputDirectory.toPath();
+    }
+
+    void setOutputDirectory(
+        Path outputDirectory)
     {
         this.outputDirectory = outputDirectory;
     }
 
+    void setManifestFile(
+        File manifestFile)
+    {
+        this.manifestFile = manifestFile;
+    }
+
+    void setAstCacheDirectory(
+        File astCacheDirectory)
+    {
+        parser.astCache(astCacheDirectory != null ? new AstCache(astCacheDirectory, version) : null);
+    }
+
+    void setParallelism(
+        int parallelism)
+    {
+        this.parallelism = parallelism;
+        parser.parallelism(parallelism);
+    }
+
+    void setEmitAllCoreTypes(
+        boolean emitAllCoreTypes)
+    {
+        this.emitAllCoreTypes = emitAllCoreTypes;
+    }
+
+    void setBytecodeReport(
+        boolean bytecodeReport)
+    {
+        this.bytecodeReport = bytecodeReport;
+    }
+
+    void setLazyLists(
+        boolean lazyLists)
+    {
+        this.lazyLists = lazyLists;
+    }
+
+    void setClasspath(
+        List<String> classpath)
+    {
+        this.classpath = classpath;
+    }
+
+    void setCorePackageName(
+        String corePackageName)
+    {
+        this.corePackageName = corePackageName;
+    }
+
+    void setVersion(
+        String version)
+    {
+        this.version = version;
+    }
+
+    private String corePackageName()
+    {
+        return corePackageName != null && !corePackageName.isEmpty() ? corePackageName : packageName;
+    }
+
+    private String options()
+    {
+        List<String> options = new ArrayList<>();
+        if (!emitAllCoreTypes)
+        {
+            options.add("reachableCoreTypes");
+        }
+        if (!corePackageName().equals(packageName))
+        {
+            options.add("corePackage=" + corePackageName());
+        }
+        if (lazyLists)
+        {
+            options.add("lazyLists");
+        }
+        return String.join(",", options);
+    }
+
     private ClassLoader createClassLoader() throws MalformedURLException
     {
         ClassLoader parent = Thread.currentThread().getContextClassLoader();
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.util.Collections.unmodifiableSortedSet;
+import static java.util.Objects.requireNonNull;
+
+import java.util.SortedSet;
+
+import org.reaktivity.maven.plugins.nukleus.internal.ast.AstSpecificationNode;
+
+final class ParsedResource
+{
+    private final String name;
+    private final String hash;
+    private final AstSpecificationNode specification;
+    private final SortedSet<String> dependencies;
+
+    ParsedResource(
+        String name,
+        String hash,
+        AstSpecificationNode specification,
+        SortedSet<String> dependencies)
+    {
+        this.name = requireNonNull(name);
+        this.hash = requireNonNull(hash);
+        this.specification = requireNonNull(specification);
+        this.dependencies = unmodifiableSortedSet(dependencies);
+    }
+
+    String name()
+    {
+        return name;
+    }
+
+    String hash()
+    {
+        return hash;
+    }
+
+    AstSpecificationNode specification()
+    {
+        return specification;
+    }
+
+    SortedSet<String> dependencies()
+    {
+        return dependencies;
+    }
+
+    static String resourceName(
+        String scopeName)
+    {
+        return scopeName.replaceAll("([^:]+).*", "$1.idl");
+    }
+}
@@ -15,8 +15,12 @@
  */
 package org.reaktivity.maven.plugins.nukleus.internal;
 
+import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -24,17 +28,25 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.reaktivity.maven.plugins.nukleus.internal.ast.AstNode;
 import org.reaktivity.maven.plugins.nukleus.internal.ast.AstSpecificationNode;
@@ -52,6 +64,12 @@ class Parser
     private Consumer<String> error = System.err::println;
     private Consumer<String> warn = NO_OP;
     private Consumer<String> debug = NO_OP;
+    private AstCache astCache;
+    private int parallelism = 1;
+    private BuildStats stats = new BuildStats();
+
+    private final Map<String, ParsedResource> residentResources = new ConcurrentHashMap<>();
+    private final ThreadLocal<SpecificationParser> specificationParsers = ThreadLocal.withInitial(SpecificationParser::new);
 
     Parser()
     {
@@ -76,67 +94,329 @@ class Parser
         return this;
     }
 
+    Parser astCache(AstCache astCache)
+    {
+        this.astCache = astCache;
+        return this;
+    }
+
+    Parser stats(BuildStats stats)
+    {
+        this.stats = stats;
+        return this;
+    }
+
     final List<AstSpecificationNode> parseAST(
         List<String> targetScopes, ClassLoader loader) throws IOException
     {
-        List<AstSpecificationNode> specifications = new LinkedList<>();
+        return parseResources(targetScopes, loader).stream()
+                                                   .map(ParsedResource::specification)
+                                                   .collect(toList());
+    }
+
+    final List<ParsedResource> parseResources(
+        List<String> targetScopes, ClassLoader loader) throws IOException
+    {
+        Map<String, CompletableFuture<Resolution>> resolutions = new ConcurrentHashMap<>();
+        if (parallelism > 1)
+        {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try
+            {
+                resolveAll(targetScopes, loader, pool, resolutions);
+            }
+            finally
+            {
+                pool.shutdown();
+            }
+        }
+        else
+        {
+            resolveAll(targetScopes, loader, Runnable::run, resolutions);
+        }
+
+        List<ParsedResource> resources = new LinkedList<>();
         SortedSet<String> parsedResourceNames = new TreeSet<>();
         Set<String> remainingScopes = new LinkedHashSet<>(targetScopes);
         while (!remainingScopes.isEmpty())
         {
             String remainingScope = remainingScopes.iterator().next();
             remainingScopes.remove(remainingScope);
-            String resourceName = remainingScope.replaceAll("([^:]+).*", "$1.idl");
+            String resourceName = ParsedResource.resourceName(remainingScope);
             if (parsedResourceNames.add(resourceName))
             {
                 debug.accept("loading: " + resourceName);
 
-                URL resource = loader.getResource(resourceName);
-                if (resource == null)
+                Resolution resolution = resolutions.get(resourceName).join();
+                if (resolution.resource == null)
                 {
                     warn.accept(String.format("Resource %s not found", resourceName));
                     continue;
                 }
 
-                AstSpecificationNode specification = parseSpecification(resourceName, resource);
-                specifications.add(specification);
+                resolution.rethrowFailure();
+
+                if (resolution.cached)
+                {
+                    debug.accept("cached: " + resourceName);
+                }
+                debug.accept("referenced types: " + resolution.referencedTypes);
+                debug.accept("referenced scopes: " + resolution.referencedScopes);
+
+                resources.add(resolution.parsed);
+                remainingScopes.addAll(resolution.referencedScopes);
+            }
+        }
+        return resources;
+    }
+
+    Parser parallelism(
+        int parallelism)
+    {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    private void resolveAll(
+        List<String> targetScopes,
+        ClassLoader loader,
+        Executor executor,
+        Map<String, CompletableFuture<Resolution>> resolutions)
+    {
+        targetScopes.forEach(s -> resolve(s, loader, executor, resolutions));
+
+        int resolving;
+        do
+        {
+            resolving = resolutions.size();
+            try
+            {
+                CompletableFuture.allOf(resolutions.values().toArray(new CompletableFuture<?>[0])).join();
+            }
+            catch (CompletionException ex)
+            {
+                Throwable cause = ex.getCause();
+                if (cause instanceof Error)
+                {
+                    throw (Error) cause;
+                }
+                if (cause instanceof RuntimeException)
+                {
+                    throw (RuntimeException) cause;
+                }
+                throw ex;
+            }
+        }
+        while (resolutions.size() != resolving);
+    }
+
+    private void resolve(
+        String scopeName,
+        ClassLoader loader,
+        Executor executor,
+        Map<String, CompletableFuture<Resolution>> resolutions)
+    {
+        String resourceName = ParsedResource.resourceName(scopeName);
+        CompletableFuture<Resolution> resolved = new CompletableFuture<>();
+        if (resolutions.putIfAbsent(resourceName, resolved) == null)
+        {
+            executor.execute(() ->
+            {
+                try
+                {
+                    Resolution resolution = resolve(resourceName, loader);
+                    resolution.referencedScopes.forEach(s -> resolve(s, loader, executor, resolutions));
+                    resolved.complete(resolution);
+                }
+                catch (Throwable ex)
+                {
+                    resolved.completeExceptionally(ex);
+                }
+            });
+        }
+    }
+
+    private Resolution resolve(
+        String resourceName,
+        ClassLoader loader)
+    {
+        Resolution resolution = new Resolution(loader.getResource(resourceName));
+        if (resolution.resource != null)
+        {
+            try
+            {
+                byte[] content = ContentHash.read(resolution.resource);
+                String hash = ContentHash.of(content);
+
+                ParsedResource resident = residentResources.get(resolution.resource.toString());
+                AstSpecificationNode specification = resident != null && resident.hash().equals(hash)
+                        ? resident.specification()
+                        : astCache != null ? astCache.lookup(resolution.resource, hash) : null;
+                resolution.cached = specification != null;
+                if (specification == null)
+                {
+                    specification = parseSpecification(resourceName, content);
+                    cache(resourceName, resolution.resource, hash, specification);
+                }
 
-                Set<String> referencedTypes = specification.accept(new ReferencedTypeResolver());
-                debug.accept("referenced types: " + referencedTypes);
+                resolution.referencedTypes = specification.accept(new ReferencedTypeResolver());
 
                 String regex = "((:?[^:]+(?:\\:\\:[^:]+)*)?)\\:\\:[^:]+";
-                Set<String> referencedScopes = referencedTypes.stream()
-                                                              .map(t -> t.replaceAll(regex, "$1"))
-                                                              .collect(toSet());
-                debug.accept("referenced scopes: " + referencedScopes);
+                resolution.referencedScopes = resolution.referencedTypes.stream()
+                                                                        .map(t -> t.replaceAll(regex, "$1"))
+                                                                        .collect(toSet());
 
-                remainingScopes.addAll(referencedScopes);
+                SortedSet<String> dependencies = resolution.referencedScopes.stream()
+                                                                            .map(ParsedResource::resourceName)
+                                                                            .filter(n -> !n.equals(resourceName))
+                                                                            .collect(toCollection(TreeSet::new));
+                resolution.parsed = new ParsedResource(resourceName, hash, specification, dependencies);
+                residentResources.put(resolution.resource.toString(), resolution.parsed);
+            }
+            catch (IOException | RuntimeException ex)
+            {
+                resolution.failure = ex;
+            }
+        }
+        return resolution;
+    }
+
+    private void cache(
+        String resourceName,
+        URL resource,
+        String hash,
+        AstSpecificationNode specification)
+    {
+        if (astCache != null)
+        {
+            try
+            {
+                astCache.store(resource, hash, specification);
+            }
+            catch (IOException ex)
+            {
+                debug.accept(String.format("Unable to cache %s: %s", resourceName, ex));
             }
         }
-        return specifications;
     }
 
-    private AstSpecificationNode parseSpecification(
+    final AstSpecificationNode parseSpecification(
         String resourceName,
-        URL resource) throws IOException
+        byte[] content) throws IOException
     {
-        try (InputStream input = resource.openStream())
+        try (InputStream input = new ByteArrayInputStream(content))
         {
+            long parseStart = System.nanoTime();
             CharStream chars = CharStreams.fromStream(input);
-            NukleusLexer lexer = new NukleusLexer(chars);
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            NukleusParser parser = new NukleusParser(tokens);
-            parser.setErrorHandler(new BailErrorStrategy());
+            SpecificationContext ctx = specificationParsers.get().parse(chars);
+            stats.phase("parse", parseStart);
 
-            SpecificationContext ctx = parser.specification();
-            return new AstParser().visitSpecification(ctx);
+            long astStart = System.nanoTime();
+            AstSpecificationNode specification = new AstParser().visitSpecification(ctx);
+            stats.phase("ast", astStart);
+            return specification;
         }
         catch (ParseCancellationException ex)
         {
-            Throwable cause = ex.getCause();
-            if (cause instanceof RecognitionException)
+            throw new ParseFailedException(resourceName, ex);
+        }
+    }
+
+    private static final class SpecificationParser
+    {
+        private NukleusLexer lexer;
+        private NukleusParser parser;
+
+        private SpecificationContext parse(
+            CharStream chars)
+        {
+            if (lexer == null)
+            {
+                lexer = new NukleusLexer(chars);
+                parser = new NukleusParser(new CommonTokenStream(lexer));
+                parser.setErrorHandler(new BailErrorStrategy());
+            }
+            else
             {
-                RecognitionException re = (RecognitionException) cause;
+                lexer.setInputStream(chars);
+                parser.setTokenStream(new CommonTokenStream(lexer));
+            }
+
+            SpecificationContext ctx;
+            try
+            {
+                parser.removeErrorListeners();
+                parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+                ctx = parser.specification();
+            }
+            catch (ParseCancellationException ex)
+            {
+                parser.reset();
+                parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+                parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                ctx = parser.specification();
+            }
+            return ctx;
+        }
+    }
+
+    private final class Resolution
+    {
+        private final URL resource;
+
+        private ParsedResource parsed;
+        private boolean cached;
+        private Set<String> referencedTypes = emptySet();
+        private Set<String> referencedScopes = emptySet();
+        private Exception failure;
+
+        private Resolution(
+            URL resource)
+        {
+            this.resource = resource;
+        }
+
+        private void rethrowFailure() throws IOException
+        {
+            if (failure instanceof ParseFailedException)
+            {
+                ParseFailedException parseFailure = (ParseFailedException) failure;
+                parseFailure.report(error);
+                throw parseFailure.exception;
+            }
+            else if (failure instanceof IOException)
+            {
+                throw (IOException) failure;
+            }
+            else if (failure != null)
+            {
+                throw (RuntimeException) failure;
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class ParseFailedException extends RuntimeException
+    {
+        private final String resourceName;
+        private final ParseCancellationException exception;
+
+        private ParseFailedException(
+            String resourceName,
+            ParseCancellationException exception)
+        {
+            super(exception);
+            this.resourceName = resourceName;
+            this.exception = exception;
+        }
+
+        private void report(
+            Consumer<String> error)
+        {
+            Throwable reason = exception.getCause();
+            if (reason instanceof RecognitionException)
+            {
+                RecognitionException re = (RecognitionException) reason;
                 Token token = re.getOffendingToken();
                 if (token != null)
                 {
@@ -145,8 +425,6 @@ class Parser
                     error.accept(message);
                 }
             }
-
-            throw ex;
         }
     }
 
@@ -20,6 +20,7 @@ import static java.util.Collections.unmodifiableList;
 import static org.apache.maven.plugins.annotations.LifecyclePhase.PROCESS_RESOURCES;
 import static org.apache.maven.plugins.annotations.ResolutionScope.COMPILE;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.CancellationException;
@@ -27,6 +28,7 @@ import java.util.concurrent.CancellationException;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 
 @Mojo(name = "validate",
       defaultPhase = PROCESS_RESOURCES,
@@ -34,6 +36,12 @@ import org.apache.maven.plugins.annotations.Mojo;
       requiresProject = true)
 public final class ValidateMojo extends AbstractMojo
 {
+    @Parameter(required = true)
+    protected String scopeNames;
+
+    @Parameter(defaultValue = "${project.build.directory}/reaktivity/validate-report.json")
+    protected File reportFile;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException
     {
@@ -49,7 +57,11 @@ public final class ValidateMojo extends AbstractMojo
 
     protected void executeImpl() throws IOException
     {
+        BuildStats stats = new BuildStats();
+        long totalStart = System.nanoTime();
         List<String> targetScopes = unmodifiableList(asList(scopeNames.split("\\s+")));
-        parseAST(targetScopes);
+        parseAST(targetScopes, stats);
+        stats.phase("total", totalStart);
+        report(stats, reportFile);
     }
 }
@@ -26,7 +26,7 @@ import java.util.Objects;
 
 public abstract class AstAbstractMemberNode extends AstNode
 {
-    public static final Object NULL_DEFAULT = new Object();
+    public static final Object NULL_DEFAULT = NullDefault.INSTANCE;
 
     protected final String name;
     protected final List<AstType> types;
@@ -230,4 +230,9 @@ public abstract class AstAbstractMemberNode extends AstNode
             return this;
         }
     }
+
+    private enum NullDefault
+    {
+        INSTANCE
+    }
 }
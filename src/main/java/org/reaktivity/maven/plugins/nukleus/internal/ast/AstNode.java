@@ -17,9 +17,10 @@ package org.reaktivity.maven.plugins.nukleus.internal.ast;
 
 import static java.util.stream.Collectors.reducing;
 
+import java.io.Serializable;
 import java.util.stream.Stream;
 
-public abstract class AstNode
+public abstract class AstNode implements Serializable
 {
     public abstract <R> R accept(
         Visitor<R> visitor);
@@ -17,13 +17,14 @@ package org.reaktivity.maven.plugins.nukleus.internal.ast;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
-public final class AstType
+public final class AstType implements Serializable
 {
     public static final AstType INT8 = new AstType("int8", 8);
     public static final AstType INT16 = new AstType("int16", 16);
@@ -151,6 +152,31 @@ public final class AstType
         return name;
     }
 
+    private Object readResolve()
+    {
+        AstType resolved = this;
+        if (VARUINT32N.equals(this))
+        {
+            resolved = VARUINT32N;
+        }
+        else if (VARSTRING.equals(this))
+        {
+            resolved = VARSTRING;
+        }
+        else
+        {
+            for (AstType astType : AST_TYPES)
+            {
+                if (astType.equals(this))
+                {
+                    resolved = astType;
+                    break;
+                }
+            }
+        }
+        return resolved;
+    }
+
     public static AstType dynamicType(
         String scopedName)
     {
@@ -59,7 +59,7 @@ public final class AstUnionCaseNode extends AstNode
         }
 
         AstUnionCaseNode that = (AstUnionCaseNode) o;
-        return this.value == that.value &&
+        return Objects.equals(this.value, that.value) &&
                 Objects.equals(this.member, that.member);
     }
 
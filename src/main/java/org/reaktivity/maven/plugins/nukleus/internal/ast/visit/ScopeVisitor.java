@@ -20,6 +20,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.reaktivity.maven.plugins.nukleus.internal.ast.AstByteOrder;
 import org.reaktivity.maven.plugins.nukleus.internal.ast.AstEnumNode;
@@ -54,18 +55,39 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
     private final TypeResolver resolver;
     private final List<String> targetScopes;
     private final Collection<TypeSpecGenerator<?>> defaultResult;
+    private final Consumer<TypeSpecGenerator<?>> sink;
+
+    private boolean lazyLists;
 
     public ScopeVisitor(
         String scopeName,
         String packageName,
         TypeResolver resolver,
         List<String> targetScopes)
+    {
+        this(scopeName, packageName, resolver, targetScopes, null);
+    }
+
+    public ScopeVisitor(
+        String scopeName,
+        String packageName,
+        TypeResolver resolver,
+        List<String> targetScopes,
+        Consumer<TypeSpecGenerator<?>> sink)
     {
         this.scopeName = requireNonNull(scopeName);
         this.packageName = requireNonNull(packageName);
         this.resolver = requireNonNull(resolver);
         this.targetScopes = requireNonNull(targetScopes);
         this.defaultResult = new LinkedList<>();
+        this.sink = sink;
+    }
+
+    public ScopeVisitor lazyLists(
+        boolean lazyLists)
+    {
+        this.lazyLists = lazyLists;
+        return this;
     }
 
     @Override
@@ -87,7 +109,9 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         String nestedName = scopeNode.name();
         String subscopeName = String.format("%s::%s", scopeName, nestedName);
         String subpackageName = String.format("%s.%s", packageName, nestedName);
-        return new ScopeVisitor(subscopeName, subpackageName, resolver, targetScopes).visitScope(scopeNode);
+        return new ScopeVisitor(subscopeName, subpackageName, resolver, targetScopes, sink)
+            .lazyLists(lazyLists)
+            .visitScope(scopeNode);
     }
 
     @Override
@@ -262,7 +286,7 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         Byte missingFieldByte = listNode.missingFieldByte();
         AstByteOrder byteOrder = listNode.byteOrder();
         ListFlyweightGenerator generator = new ListFlyweightGenerator(listName, resolver.resolveClass(AstType.LIST), baseName,
-            templateType, lengthTypeName, fieldCountTypeName, missingFieldByte, resolver, byteOrder);
+            templateType, lengthTypeName, fieldCountTypeName, missingFieldByte, resolver, byteOrder, lazyLists);
         return new ListVisitor(generator, resolver).visitList(listNode);
     }
 
@@ -281,6 +305,11 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         {
             aggregate.addAll(nextResult);
         }
+        if (sink != null)
+        {
+            aggregate.forEach(sink);
+            aggregate.clear();
+        }
         return aggregate;
     }
 
@@ -46,6 +46,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
     private final TypeSpec.Builder classBuilder;
     private final TypeVariableName typeVarV;
     private final BuilderClassBuilder builderClassBuilder;
+    private final ArrayItemAccessGenerator itemAccess;
 
     public Array16FWGenerator(
         ClassName flyweightType,
@@ -59,11 +60,14 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .addTypeVariable(typeVarV);
 
         this.builderClassBuilder = new BuilderClassBuilder(flyweightType, arrayType, thisName);
+        this.itemAccess = new ArrayItemAccessGenerator(thisRawName, classBuilder, typeVarV);
     }
 
     @Override
     public TypeSpec generate()
     {
+        itemAccess.build();
+
         return classBuilder
             .addField(lengthSizeConstant())
             .addField(fieldCountSizeConstant())
@@ -91,6 +95,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .addMethod(tryWrapMethod())
             .addMethod(limitMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addMethod(maxLengthSetterMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -324,6 +329,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .addParameter(int.class, "maxLimit")
             .returns(thisName)
             .addStatement("super.wrap(buffer, offset, maxLimit)")
+            .addStatement("indexedCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -351,6 +357,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .beginControlFlow("if (super.tryWrap(buffer, offset, maxLimit) == null)")
             .addStatement("return null")
             .endControlFlow()
+            .addStatement("indexedCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -381,7 +388,18 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"array16<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .addStatement("return builder.append(\"array16<\").append(length()).append(\", \").append(fieldCount()).append('>')")
             .build();
     }
 
@@ -433,11 +451,13 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
                 .addField(itemROField())
                 .addField(fieldCountField())
                 .addField(maxLengthField())
+                .addField(itemsCopiedField())
                 .addMethod(constructor())
                 .addMethod(constructorWithByteOrder())
                 .addMethod(fieldsOffsetMethod())
                 .addMethod(itemMethod())
                 .addMethod(itemsMethod())
+                .addMethod(maxLengthMethod())
                 .addMethod(wrapMethod())
                 .addMethod(buildMethod())
                 .build();
@@ -473,6 +493,12 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
                 .build();
         }
 
+        private FieldSpec itemsCopiedField()
+        {
+            return FieldSpec.builder(boolean.class, "itemsCopied", PRIVATE)
+                .build();
+        }
+
         private MethodSpec constructor()
         {
             return constructorBuilder()
@@ -546,6 +572,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("limit(newLimit)")
                 .addStatement("this.fieldCount = fieldCount")
                 .addStatement("this.maxLength = maxLength")
+                .addStatement("itemsCopied = true")
                 .addStatement("assert length <= LENGTH_MAX_VALUE : \"Length is too large\"")
                 .addStatement("assert fieldCount <= LENGTH_MAX_VALUE : \"Field count is too large\"")
                 .addStatement("buffer().putShort(offset() + LENGTH_OFFSET, (short) length, byteOrder)")
@@ -555,6 +582,18 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
                 .build();
         }
 
+        private MethodSpec maxLengthMethod()
+        {
+            return methodBuilder("maxLength")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(array16BuilderType)
+                .addParameter(int.class, "maxLength")
+                .addStatement("this.maxLength = Math.max(this.maxLength, maxLength)")
+                .addStatement("return this")
+                .build();
+        }
+
         private MethodSpec wrapMethod()
         {
             return methodBuilder("wrap")
@@ -570,6 +609,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("limit(newLimit)")
                 .addStatement("fieldCount = 0")
                 .addStatement("maxLength = 0")
+                .addStatement("itemsCopied = false")
                 .addStatement("return this")
                 .build();
         }
@@ -587,6 +627,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("buffer().putShort(offset() + LENGTH_OFFSET, (short) length, byteOrder)")
                 .addStatement("buffer().putShort(offset() + FIELD_COUNT_OFFSET, (short) fieldCount, byteOrder)")
                 .addStatement("final ArrayFW<V> array = super.build()")
+                .beginControlFlow("if (itemsCopied || itemRW.rebuildRequired(maxLength))")
                 .addStatement("final int maxLimit = maxLimit()")
                 .addStatement("limit(fieldsOffset())")
                 .addStatement("int itemOffset = fieldsOffset()")
@@ -601,6 +642,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
                 .endControlFlow()
                 .addStatement("length = limit() - offset() - FIELD_COUNT_OFFSET")
                 .addStatement("buffer().putShort(offset() + LENGTH_OFFSET, (short) length, byteOrder)")
+                .endControlFlow()
                 .addStatement("final Array16FW<V> array16 = super.build()")
                 .addStatement("array16.maxLength(maxLength)")
                 .addStatement("return array16")
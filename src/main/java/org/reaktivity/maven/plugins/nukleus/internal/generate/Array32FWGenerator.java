@@ -46,6 +46,7 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
     private final TypeSpec.Builder classBuilder;
     private final TypeVariableName typeVarV;
     private final BuilderClassBuilder builderClassBuilder;
+    private final ArrayItemAccessGenerator itemAccess;
 
     public Array32FWGenerator(
         ClassName flyweightType,
@@ -59,11 +60,14 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .addTypeVariable(typeVarV);
 
         this.builderClassBuilder = new BuilderClassBuilder(flyweightType, arrayType, thisName);
+        this.itemAccess = new ArrayItemAccessGenerator(thisRawName, classBuilder, typeVarV);
     }
 
     @Override
     public TypeSpec generate()
     {
+        itemAccess.build();
+
         return classBuilder
             .addField(lengthSizeConstant())
             .addField(fieldCountSizeConstant())
@@ -90,6 +94,7 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .addMethod(tryWrapMethod())
             .addMethod(limitMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addMethod(maxLengthSetterMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -317,6 +322,7 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .addParameter(int.class, "maxLimit")
             .returns(thisName)
             .addStatement("super.wrap(buffer, offset, maxLimit)")
+            .addStatement("indexedCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -344,6 +350,7 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .beginControlFlow("if (super.tryWrap(buffer, offset, maxLimit) == null)")
             .addStatement("return null")
             .endControlFlow()
+            .addStatement("indexedCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -374,7 +381,18 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"array32<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .addStatement("return builder.append(\"array32<\").append(length()).append(\", \").append(fieldCount()).append('>')")
             .build();
     }
 
@@ -426,11 +444,13 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
                 .addField(itemROField())
                 .addField(fieldCountField())
                 .addField(maxLengthField())
+                .addField(itemsCopiedField())
                 .addMethod(constructor())
                 .addMethod(constructorWithByteOrder())
                 .addMethod(fieldsOffsetMethod())
                 .addMethod(itemMethod())
                 .addMethod(itemsMethod())
+                .addMethod(maxLengthMethod())
                 .addMethod(wrapMethod())
                 .addMethod(buildMethod())
                 .build();
@@ -466,6 +486,12 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
                 .build();
         }
 
+        private FieldSpec itemsCopiedField()
+        {
+            return FieldSpec.builder(boolean.class, "itemsCopied", PRIVATE)
+                .build();
+        }
+
         private MethodSpec constructor()
         {
             return constructorBuilder()
@@ -539,6 +565,7 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("limit(newLimit)")
                 .addStatement("this.fieldCount = fieldCount")
                 .addStatement("this.maxLength = maxLength")
+                .addStatement("itemsCopied = true")
                 .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, length, byteOrder)")
                 .addStatement("buffer().putInt(offset() + FIELD_COUNT_OFFSET, fieldCount + FIELD_COUNT_SIZE, byteOrder)")
                 .addStatement("return this")
@@ -546,6 +573,18 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
         }
 
 
+        private MethodSpec maxLengthMethod()
+        {
+            return methodBuilder("maxLength")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(array32BuilderType)
+                .addParameter(int.class, "maxLength")
+                .addStatement("this.maxLength = Math.max(this.maxLength, maxLength)")
+                .addStatement("return this")
+                .build();
+        }
+
         private MethodSpec wrapMethod()
         {
             return methodBuilder("wrap")
@@ -561,6 +600,7 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("limit(newLimit)")
                 .addStatement("fieldCount = 0")
                 .addStatement("maxLength = 0")
+                .addStatement("itemsCopied = false")
                 .addStatement("return this")
                 .build();
         }
@@ -576,6 +616,7 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, length, byteOrder)")
                 .addStatement("buffer().putInt(offset() + FIELD_COUNT_OFFSET, fieldCount, byteOrder)")
                 .addStatement("final ArrayFW<V> array = super.build()")
+                .beginControlFlow("if (itemsCopied || itemRW.rebuildRequired(maxLength))")
                 .addStatement("final int maxLimit = maxLimit()")
                 .addStatement("limit(fieldsOffset())")
                 .addStatement("int itemOffset = fieldsOffset()")
@@ -590,6 +631,7 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
                 .endControlFlow()
                 .addStatement("length = limit() - offset() - FIELD_COUNT_OFFSET")
                 .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, length, byteOrder)")
+                .endControlFlow()
                 .addStatement("final Array32FW<V> array32 = super.build()")
                 .addStatement("array32.maxLength(maxLength)")
                 .addStatement("return array32")
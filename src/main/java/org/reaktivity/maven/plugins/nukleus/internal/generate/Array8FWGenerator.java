@@ -45,6 +45,7 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
     private final TypeSpec.Builder classBuilder;
     private final TypeVariableName typeVarV;
     private final BuilderClassBuilder builderClassBuilder;
+    private final ArrayItemAccessGenerator itemAccess;
 
     public Array8FWGenerator(
         ClassName flyweightType,
@@ -57,11 +58,14 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .addModifiers(PUBLIC, FINAL)
             .addTypeVariable(typeVarV);
         this.builderClassBuilder = new BuilderClassBuilder(flyweightType, arrayType, thisName);
+        this.itemAccess = new ArrayItemAccessGenerator(thisRawName, classBuilder, typeVarV);
     }
 
     @Override
     public TypeSpec generate()
     {
+        itemAccess.build();
+
         return classBuilder
             .addField(lengthSizeConstant())
             .addField(fieldCountSizeConstant())
@@ -87,6 +91,7 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .addMethod(tryWrapMethod())
             .addMethod(limitMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addMethod(maxLengthSetterMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -302,6 +307,7 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .addParameter(int.class, "maxLimit")
             .returns(thisName)
             .addStatement("super.wrap(buffer, offset, maxLimit)")
+            .addStatement("indexedCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -329,6 +335,7 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .beginControlFlow("if (super.tryWrap(buffer, offset, maxLimit) == null)")
             .addStatement("return null")
             .endControlFlow()
+            .addStatement("indexedCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -359,7 +366,18 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"array8<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .addStatement("return builder.append(\"array8<\").append(length()).append(\", \").append(fieldCount()).append('>')")
             .build();
     }
 
@@ -409,10 +427,12 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
                 .addField(itemROField())
                 .addField(fieldCountField())
                 .addField(maxLengthField())
+                .addField(itemsCopiedField())
                 .addMethod(constructor())
                 .addMethod(fieldsOffsetMethod())
                 .addMethod(itemMethod())
                 .addMethod(itemsMethod())
+                .addMethod(maxLengthMethod())
                 .addMethod(wrapMethod())
                 .addMethod(buildMethod())
                 .build();
@@ -442,6 +462,12 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
                 .build();
         }
 
+        private FieldSpec itemsCopiedField()
+        {
+            return FieldSpec.builder(boolean.class, "itemsCopied", PRIVATE)
+                .build();
+        }
+
         private MethodSpec constructor()
         {
             return constructorBuilder()
@@ -500,6 +526,7 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("limit(newLimit)")
                 .addStatement("this.fieldCount = fieldCount")
                 .addStatement("this.maxLength = maxLength")
+                .addStatement("itemsCopied = true")
                 .addStatement("assert length <= LENGTH_MAX_VALUE : \"Length is too large\"")
                 .addStatement("assert fieldCount <= LENGTH_MAX_VALUE : \"Field count is too large\"")
                 .addStatement("buffer().putByte(offset() + LENGTH_OFFSET, (byte) (length + FIELD_COUNT_SIZE))")
@@ -508,6 +535,18 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
                 .build();
         }
 
+        private MethodSpec maxLengthMethod()
+        {
+            return methodBuilder("maxLength")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(array8BuilderType)
+                .addParameter(int.class, "maxLength")
+                .addStatement("this.maxLength = Math.max(this.maxLength, maxLength)")
+                .addStatement("return this")
+                .build();
+        }
+
         private MethodSpec wrapMethod()
         {
             return methodBuilder("wrap")
@@ -523,6 +562,7 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("limit(newLimit)")
                 .addStatement("fieldCount = 0")
                 .addStatement("maxLength = 0")
+                .addStatement("itemsCopied = false")
                 .addStatement("return this")
                 .build();
         }
@@ -540,6 +580,7 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("buffer().putByte(offset() + LENGTH_OFFSET, (byte) length)")
                 .addStatement("buffer().putByte(offset() + FIELD_COUNT_OFFSET, (byte) fieldCount)")
                 .addStatement("final ArrayFW<V> array = super.build()")
+                .beginControlFlow("if (itemsCopied || itemRW.rebuildRequired(maxLength))")
                 .addStatement("final int maxLimit = maxLimit()")
                 .addStatement("limit(fieldsOffset())")
                 .addStatement("int itemOffset = fieldsOffset()")
@@ -554,6 +595,7 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
                 .endControlFlow()
                 .addStatement("length = limit() - offset() - FIELD_COUNT_OFFSET")
                 .addStatement("buffer().putByte(offset() + LENGTH_OFFSET, (byte) length)")
+                .endControlFlow()
                 .addStatement("final Array8FW<V> array8 = super.build()")
                 .addStatement("array8.maxLength(maxLength)")
                 .addStatement("return array8")
@@ -65,7 +65,10 @@ public final class ArrayFWGenerator extends ClassSpecGenerator
             .addMethod(matchFirstMethod())
             .addMethod(isEmptyMethod())
             .addMethod(itemsMethod())
+            .addMethod(itemMethod())
+            .addMethod(sliceMethod())
             .addMethod(maxLengthMutatorMethod())
+            .addMethod(itemSizeMutatorMethod())
             .addType(builderClassBuilder.build())
             .build();
     }
@@ -151,6 +154,25 @@ public final class ArrayFWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec itemMethod()
+    {
+        return methodBuilder("item")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .addParameter(int.class, "index")
+            .returns(typeVarV)
+            .build();
+    }
+
+    private MethodSpec sliceMethod()
+    {
+        return methodBuilder("slice")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .addParameter(int.class, "from")
+            .addParameter(int.class, "to")
+            .returns(DIRECT_BUFFER_TYPE)
+            .build();
+    }
+
     private MethodSpec maxLengthMutatorMethod()
     {
         return methodBuilder("maxLength")
@@ -160,6 +182,15 @@ public final class ArrayFWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec itemSizeMutatorMethod()
+    {
+        return methodBuilder("itemSize")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .returns(void.class)
+            .addParameter(int.class, "itemSize")
+            .build();
+    }
+
     private static final class BuilderClassBuilder
     {
         private final TypeSpec.Builder classBuilder;
@@ -191,6 +222,7 @@ public final class ArrayFWGenerator extends ClassSpecGenerator
                 .addMethod(constructor())
                 .addMethod(itemMethod())
                 .addMethod(itemsMethod())
+                .addMethod(maxLengthMethod())
                 .addMethod(fieldsOffsetMethod())
                 .build();
         }
@@ -227,6 +259,15 @@ public final class ArrayFWGenerator extends ClassSpecGenerator
                 .build();
         }
 
+        private MethodSpec maxLengthMethod()
+        {
+            return methodBuilder("maxLength")
+                .addModifiers(PUBLIC, ABSTRACT)
+                .returns(parameterizedBuilderType)
+                .addParameter(int.class, "maxLength")
+                .build();
+        }
+
         private MethodSpec fieldsOffsetMethod()
         {
             return methodBuilder("fieldsOffset")
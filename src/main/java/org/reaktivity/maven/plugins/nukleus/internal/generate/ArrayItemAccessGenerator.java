@@ -0,0 +1,156 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal.generate;
+
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static org.reaktivity.maven.plugins.nukleus.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
+import static org.reaktivity.maven.plugins.nukleus.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
+
+import java.util.Arrays;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeVariableName;
+
+final class ArrayItemAccessGenerator extends ClassSpecMixinGenerator
+{
+    private final TypeVariableName typeVarV;
+
+    ArrayItemAccessGenerator(
+        ClassName thisType,
+        TypeSpec.Builder builder,
+        TypeVariableName typeVarV)
+    {
+        super(thisType, builder);
+        this.typeVarV = typeVarV;
+    }
+
+    @Override
+    public TypeSpec.Builder build()
+    {
+        return builder
+            .addField(sliceField())
+            .addField(FieldSpec.builder(int.class, "itemSize", PRIVATE).build())
+            .addField(FieldSpec.builder(int[].class, "itemOffsets", PRIVATE).initializer("new int[0]").build())
+            .addField(FieldSpec.builder(int.class, "indexedCount", PRIVATE).build())
+            .addField(FieldSpec.builder(int.class, "indexedLimit", PRIVATE).build())
+            .addMethod(itemMethod())
+            .addMethod(sliceMethod())
+            .addMethod(itemSizeMethod())
+            .addMethod(itemOffsetMethod())
+            .addMethod(indexItemsMethod());
+    }
+
+    private FieldSpec sliceField()
+    {
+        return FieldSpec.builder(DIRECT_BUFFER_TYPE, "sliceRO", PRIVATE, FINAL)
+            .initializer("new $T(0L, 0)", UNSAFE_BUFFER_TYPE)
+            .build();
+    }
+
+    private MethodSpec itemMethod()
+    {
+        return methodBuilder("item")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(int.class, "index")
+            .returns(typeVarV)
+            .addStatement("final int fieldCount = fieldCount()")
+            .beginControlFlow("if (index < 0 || index >= fieldCount)")
+            .addStatement("final String msg = String.format(\"index=%d is beyond fieldCount=%d\", index, fieldCount)")
+            .addStatement("throw new IndexOutOfBoundsException(msg)")
+            .endControlFlow()
+            .addStatement("itemRO.wrap(buffer(), itemOffset(index), limit(), this)")
+            .addStatement("return itemRO")
+            .build();
+    }
+
+    private MethodSpec sliceMethod()
+    {
+        return methodBuilder("slice")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(int.class, "from")
+            .addParameter(int.class, "to")
+            .returns(DIRECT_BUFFER_TYPE)
+            .addStatement("final int fieldCount = fieldCount()")
+            .beginControlFlow("if (from < 0 || from > to || to > fieldCount)")
+            .addStatement("final String msg = String.format(\"from=%d, to=%d is beyond fieldCount=%d\", from, to, fieldCount)")
+            .addStatement("throw new IndexOutOfBoundsException(msg)")
+            .endControlFlow()
+            .addStatement("final int sliceOffset = from == fieldCount ? limit() : itemOffset(from)")
+            .addStatement("final int sliceLimit = to == fieldCount ? limit() : itemOffset(to)")
+            .beginControlFlow("if (sliceLimit == sliceOffset)")
+            .addStatement("sliceRO.wrap(EMPTY_BUFFER, 0, 0)")
+            .endControlFlow()
+            .beginControlFlow("else")
+            .addStatement("sliceRO.wrap(buffer(), sliceOffset, sliceLimit - sliceOffset)")
+            .endControlFlow()
+            .addStatement("return sliceRO")
+            .build();
+    }
+
+    private MethodSpec itemSizeMethod()
+    {
+        return methodBuilder("itemSize")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(int.class, "itemSize")
+            .returns(void.class)
+            .addStatement("this.itemSize = itemSize")
+            .build();
+    }
+
+    private MethodSpec itemOffsetMethod()
+    {
+        return methodBuilder("itemOffset")
+            .addModifiers(PRIVATE)
+            .addParameter(int.class, "index")
+            .returns(int.class)
+            .beginControlFlow("if (itemSize != 0)")
+            .addStatement("return offset() + FIELDS_OFFSET + index * itemSize")
+            .endControlFlow()
+            .beginControlFlow("if (index >= indexedCount)")
+            .addStatement("indexItems(index)")
+            .endControlFlow()
+            .addStatement("return itemOffsets[index]")
+            .build();
+    }
+
+    private MethodSpec indexItemsMethod()
+    {
+        return methodBuilder("indexItems")
+            .addModifiers(PRIVATE)
+            .addParameter(int.class, "index")
+            .returns(void.class)
+            .beginControlFlow("if (index >= itemOffsets.length)")
+            .addStatement("itemOffsets = $T.copyOf(itemOffsets, Math.max(index + 1, fieldCount()))", Arrays.class)
+            .endControlFlow()
+            .addStatement("int itemOffset = indexedCount == 0 ? offset() + FIELDS_OFFSET : indexedLimit")
+            .beginControlFlow("for (int i = indexedCount; i <= index; i++)")
+            .addStatement("itemOffsets[i] = itemOffset")
+            .addStatement("itemOffset = itemRO.wrap(buffer(), itemOffset, limit(), this).limit()")
+            .endControlFlow()
+            .addStatement("indexedCount = index + 1")
+            .addStatement("indexedLimit = itemOffset")
+            .build();
+    }
+}
@@ -98,6 +98,7 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
                            .addMethod(tryWrapMethod())
                            .addMethod(wrapMethod())
                            .addMethod(toStringMethod())
+                           .addMethod(appendToMethod())
                            .addType(builderClassBuilder.build())
                            .build();
     }
@@ -174,8 +175,18 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
             }
         }
 
-        String returnStatement = String.format("return %s", isValueTypeNonPrimitive() ? isStringType((ClassName) valueTypeName) ?
-            "stringRO.asString() != null ? $T.valueOf(stringRO.asString().toUpperCase()) : null" :
+        if (isValueTypeNonPrimitive() && isStringType((ClassName) valueTypeName))
+        {
+            return methodBuilder("get")
+                    .addModifiers(PUBLIC)
+                    .returns(enumTypeName)
+                    .addStatement("final $T value = $T.valueOf(stringRO)", enumTypeName, enumTypeName)
+                    .addStatement("return value != null || stringRO.asString() == null ? value : " +
+                        "$T.valueOf(stringRO.asString().toUpperCase())", enumTypeName)
+                    .build();
+        }
+
+        String returnStatement = String.format("return %s", isValueTypeNonPrimitive() ?
             String.format("$T.valueOf(%sRO.get())", fieldName(valueTypeName)) :
             String.format("$T.valueOf(buffer().get%s(offset() + FIELD_OFFSET_VALUE)%s)", bufferType, unsignedHex));
         return methodBuilder("get")
@@ -244,7 +255,18 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return maxLimit() == offset() ? \"null\" : get().toString()")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .addStatement("return builder.append(maxLimit() == offset() ? \"null\" : get().name())")
                 .build();
     }
 
@@ -22,6 +22,7 @@ import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 import static org.reaktivity.maven.plugins.nukleus.internal.generate.TypeNames.LONG_2_OBJECT_HASH_MAP_TYPE;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -101,10 +102,20 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             }
             else
             {
-                builder.addField(String.class, "value", Modifier.PRIVATE, Modifier.FINAL);
+                builder.addField(String.class, "value", Modifier.PRIVATE, Modifier.FINAL)
+                       .addField(byte[].class, "bytes", Modifier.PRIVATE, Modifier.FINAL);
             }
             builder.addMethod(constructor.generate())
                    .addMethod(valueMethod.generate());
+            if (isValueTypeString())
+            {
+                builder.addMethod(methodBuilder("matches")
+                    .addModifiers(PUBLIC)
+                    .addParameter(((ClassName) valueTypeName).peerClass("StringFW"), "value")
+                    .returns(boolean.class)
+                    .addStatement("return value.equalsAscii(bytes)")
+                    .build());
+            }
         }
 
         return builder.addMethod(valueOfMethod.generate())
@@ -208,7 +219,8 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             }
             else
             {
-                builder.addParameter(String.class, "value");
+                builder.addParameter(String.class, "value")
+                       .addStatement("this.bytes = value.getBytes($T.UTF_8)", StandardCharsets.class);
             }
             return builder.build();
         }
@@ -275,13 +287,19 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             {
                 builder.addStatement("return VALUE_BY_LONG.get(value)");
             }
-            else
+            else if (isValueTypeString())
             {
-                if (isValueTypeString())
+                for (String enumConstant : constantNames)
                 {
-                    builder.addStatement("String kind = $L.asString()", discriminant);
+                    builder.beginControlFlow("if ($L.equalsAscii($N.bytes))", discriminant, enumConstant)
+                           .addStatement("return $N", enumConstant)
+                           .endControlFlow();
                 }
-                builder.beginControlFlow("switch ($L)", isValueTypeString() ? "kind" : discriminant);
+                builder.addStatement("return null");
+            }
+            else
+            {
+                builder.beginControlFlow("switch ($L)", discriminant);
 
                 for (int index = 0; index < constantNames.size(); index++)
                 {
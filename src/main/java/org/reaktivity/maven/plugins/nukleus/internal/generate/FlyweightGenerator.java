@@ -26,8 +26,8 @@ import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 import static org.reaktivity.maven.plugins.nukleus.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.maven.plugins.nukleus.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
-import static org.reaktivity.maven.plugins.nukleus.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
+import java.nio.ByteOrder;
 import java.util.function.Consumer;
 
 import com.squareup.javapoet.ClassName;
@@ -50,7 +50,9 @@ public final class FlyweightGenerator extends ClassSpecGenerator
     {
         super(flyweightType);
 
-        this.classBuilder = classBuilder(thisName).addModifiers(PUBLIC, ABSTRACT);
+        this.classBuilder = classBuilder(thisName)
+            .addModifiers(PUBLIC, ABSTRACT)
+            .addSuperinterface(ParameterizedTypeName.get(ClassName.get(Comparable.class), thisName));
         this.arrayAnyType = ParameterizedTypeName.get(arrayType.rawType, WildcardTypeName.subtypeOf(Object.class));
         this.builderClassBuilder = new BuilderClassBuilder(thisName, arrayAnyType);
     }
@@ -60,10 +62,13 @@ public final class FlyweightGenerator extends ClassSpecGenerator
     {
         return classBuilder
             .addField(bufferField())
-            .addField(emptyBytesField())
             .addField(offsetField())
             .addField(maxLimitField())
-            .addField(compareBufferField())
+            .addField(hashPrime1Field())
+            .addField(hashPrime2Field())
+            .addField(cacheHashField())
+            .addField(hashField())
+            .addField(appendBuilderField())
             .addMethod(offsetMethod())
             .addMethod(bufferMethod())
             .addMethod(limitMethod())
@@ -74,7 +79,13 @@ public final class FlyweightGenerator extends ClassSpecGenerator
             .addMethod(wrapWithArrayMethod())
             .addMethod(checkLimitMethod())
             .addMethod(equalsMethod())
+            .addMethod(compareToMethod())
             .addMethod(hashCodeMethod())
+            .addMethod(cacheHashMethod())
+            .addMethod(hashMethod())
+            .addMethod(hashStepMethod())
+            .addMethod(appendToMethod())
+            .addMethod(appendToBufferMethod())
             .addType(visitorInterface())
             .addType(builderClassBuilder.build())
             .build();
@@ -112,20 +123,35 @@ public final class FlyweightGenerator extends ClassSpecGenerator
         return FieldSpec.builder(int.class, "maxLimit", PRIVATE).build();
     }
 
-    private FieldSpec compareBufferField()
+    private FieldSpec hashPrime1Field()
     {
-        return FieldSpec.builder(UNSAFE_BUFFER_TYPE, "compareBuffer", PRIVATE)
-                .initializer("new UnsafeBuffer(EMPTY_BYTES)")
+        return FieldSpec.builder(long.class, "HASH_PRIME_1", PRIVATE, STATIC, FINAL)
+                .initializer("0x9E3779B97F4A7C15L")
                 .build();
     }
 
-    private FieldSpec emptyBytesField()
+    private FieldSpec hashPrime2Field()
     {
-        return FieldSpec.builder(byte[].class, "EMPTY_BYTES", PRIVATE, STATIC)
-                .initializer("new byte[0]")
+        return FieldSpec.builder(long.class, "HASH_PRIME_2", PRIVATE, STATIC, FINAL)
+                .initializer("0xC2B2AE3D27D4EB4FL")
                 .build();
     }
 
+    private FieldSpec cacheHashField()
+    {
+        return FieldSpec.builder(boolean.class, "cacheHash", PRIVATE).build();
+    }
+
+    private FieldSpec hashField()
+    {
+        return FieldSpec.builder(int.class, "hash", PRIVATE).build();
+    }
+
+    private FieldSpec appendBuilderField()
+    {
+        return FieldSpec.builder(StringBuilder.class, "appendBuilder", PRIVATE).build();
+    }
+
     private MethodSpec maxLimitMethod()
     {
         return methodBuilder("maxLimit")
@@ -184,6 +210,7 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                   .addStatement("this.buffer = buffer")
                   .addStatement("this.offset = offset")
                   .addStatement("this.maxLimit = maxLimit")
+                  .addStatement("this.hash = 0")
                   .addStatement("return this")
                   .build();
     }
@@ -204,6 +231,7 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                   .addStatement("this.buffer = buffer")
                   .addStatement("this.offset = offset")
                   .addStatement("this.maxLimit = maxLimit")
+                  .addStatement("this.hash = 0")
                   .addStatement("return this")
                   .build();
     }
@@ -249,24 +277,168 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                   .addStatement("return false")
                   .nextControlFlow("else")
                   .addStatement("Flyweight that = (Flyweight) obj")
-                  .addStatement("compareBuffer.wrap(buffer, offset, sizeof())")
-                  .addStatement("that.compareBuffer.wrap(that.buffer, that.offset, that.sizeof())")
-                  .addStatement("return compareBuffer.equals(that.compareBuffer)")
+                  .addStatement("final int length = sizeof()")
+                  .beginControlFlow("if (length != that.sizeof())")
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .addStatement("int index = 0")
+                  .beginControlFlow("for (; index <= length - Long.BYTES; index += Long.BYTES)")
+                  .beginControlFlow("if (buffer.getLong(offset + index) != that.buffer.getLong(that.offset + index))")
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .beginControlFlow("for (; index < length; index++)")
+                  .beginControlFlow("if (buffer.getByte(offset + index) != that.buffer.getByte(that.offset + index))")
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .addStatement("return true")
                   .endControlFlow()
                   .build();
     }
 
+    private MethodSpec compareToMethod()
+    {
+        return methodBuilder("compareTo")
+                  .addAnnotation(Override.class)
+                  .addModifiers(PUBLIC)
+                  .addParameter(thisName, "that")
+                  .returns(int.class)
+                  .addStatement("final int length = sizeof()")
+                  .addStatement("final int thatLength = that.sizeof()")
+                  .addStatement("final int minLength = Math.min(length, thatLength)")
+                  .addStatement("int index = 0")
+                  .beginControlFlow("for (; index <= minLength - Long.BYTES; index += Long.BYTES)")
+                  .addStatement("final long word = buffer.getLong(offset + index, $T.BIG_ENDIAN)", ByteOrder.class)
+                  .addStatement("final long thatWord = that.buffer.getLong(that.offset + index, $T.BIG_ENDIAN)",
+                          ByteOrder.class)
+                  .beginControlFlow("if (word != thatWord)")
+                  .addStatement("return Long.compareUnsigned(word, thatWord)")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .beginControlFlow("for (; index < minLength; index++)")
+                  .addStatement("final int comparison = Integer.compare(buffer.getByte(offset + index) & 0xff, " +
+                          "that.buffer.getByte(that.offset + index) & 0xff)")
+                  .beginControlFlow("if (comparison != 0)")
+                  .addStatement("return comparison")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .addStatement("return Integer.compare(length, thatLength)")
+                  .build();
+    }
+
     private MethodSpec hashCodeMethod()
     {
         return methodBuilder("hashCode")
                   .addAnnotation(Override.class)
                   .addModifiers(PUBLIC)
                   .returns(int.class)
-                  .addStatement("int result = 1")
-                  .beginControlFlow("for (int i = offset; i < limit(); i++)")
-                  .addStatement("result = 31 * result + buffer.getByte(i)")
+                  .beginControlFlow("if (!cacheHash)")
+                  .addStatement("return hash(buffer, offset, limit())")
+                  .endControlFlow()
+                  .beginControlFlow("if (hash == 0)")
+                  .addStatement("hash = hash(buffer, offset, limit())")
+                  .endControlFlow()
+                  .addStatement("return hash")
+                  .build();
+    }
+
+    private MethodSpec cacheHashMethod()
+    {
+        return methodBuilder("cacheHash")
+                  .addModifiers(PUBLIC, FINAL)
+                  .addParameter(boolean.class, "cacheHash")
+                  .addStatement("this.cacheHash = cacheHash")
+                  .addStatement("this.hash = 0")
+                  .build();
+    }
+
+    private MethodSpec hashMethod()
+    {
+        return methodBuilder("hash")
+                  .addModifiers(PRIVATE, STATIC)
+                  .returns(int.class)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .addParameter(int.class, "limit")
+                  .addStatement("long hash = HASH_PRIME_2 * (limit - offset)")
+                  .addStatement("int index = offset")
+                  .beginControlFlow("for (; index <= limit - Long.BYTES; index += Long.BYTES)")
+                  .addStatement("hash = hashStep(hash, buffer.getLong(index))")
+                  .endControlFlow()
+                  .beginControlFlow("if (index <= limit - Integer.BYTES)")
+                  .addStatement("hash = hashStep(hash, buffer.getInt(index) & 0xffff_ffffL)")
+                  .addStatement("index += Integer.BYTES")
+                  .endControlFlow()
+                  .beginControlFlow("for (; index < limit; index++)")
+                  .addStatement("hash = hashStep(hash, buffer.getByte(index) & 0xffL)")
+                  .endControlFlow()
+                  .addStatement("hash ^= hash >>> 33")
+                  .addStatement("hash *= 0xff51afd7ed558ccdL")
+                  .addStatement("hash ^= hash >>> 33")
+                  .addStatement("hash *= 0xc4ceb9fe1a85ec53L")
+                  .addStatement("hash ^= hash >>> 33")
+                  .addStatement("return (int) hash")
+                  .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                  .addModifiers(PUBLIC)
+                  .returns(StringBuilder.class)
+                  .addParameter(StringBuilder.class, "builder")
+                  .addStatement("return builder.append(toString())")
+                  .build();
+    }
+
+    private MethodSpec appendToBufferMethod()
+    {
+        return methodBuilder("appendTo")
+                  .addModifiers(PUBLIC, FINAL)
+                  .returns(int.class)
+                  .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .beginControlFlow("if (appendBuilder == null)")
+                  .addStatement("appendBuilder = new StringBuilder()")
                   .endControlFlow()
-                  .addStatement("return result")
+                  .addStatement("final StringBuilder builder = appendBuilder")
+                  .addStatement("builder.setLength(0)")
+                  .addStatement("appendTo(builder)")
+                  .addStatement("final int length = builder.length()")
+                  .addStatement("int index = offset")
+                  .beginControlFlow("for (int i = 0; i < length; i++)")
+                  .addStatement("int ch = builder.charAt(i)")
+                  .beginControlFlow("if (ch < 0x80)")
+                  .addStatement("buffer.putByte(index++, (byte) ch)")
+                  .nextControlFlow("else if (ch < 0x800)")
+                  .addStatement("buffer.putByte(index++, (byte) (0xc0 | ch >> 6))")
+                  .addStatement("buffer.putByte(index++, (byte) (0x80 | ch & 0x3f))")
+                  .nextControlFlow("else if (Character.isHighSurrogate((char) ch) && i + 1 < length &&\n" +
+                          "Character.isLowSurrogate(builder.charAt(i + 1)))")
+                  .addStatement("ch = Character.toCodePoint((char) ch, builder.charAt(++i))")
+                  .addStatement("buffer.putByte(index++, (byte) (0xf0 | ch >> 18))")
+                  .addStatement("buffer.putByte(index++, (byte) (0x80 | ch >> 12 & 0x3f))")
+                  .addStatement("buffer.putByte(index++, (byte) (0x80 | ch >> 6 & 0x3f))")
+                  .addStatement("buffer.putByte(index++, (byte) (0x80 | ch & 0x3f))")
+                  .nextControlFlow("else")
+                  .addStatement("buffer.putByte(index++, (byte) (0xe0 | ch >> 12))")
+                  .addStatement("buffer.putByte(index++, (byte) (0x80 | ch >> 6 & 0x3f))")
+                  .addStatement("buffer.putByte(index++, (byte) (0x80 | ch & 0x3f))")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .addStatement("return index - offset")
+                  .build();
+    }
+
+    private MethodSpec hashStepMethod()
+    {
+        return methodBuilder("hashStep")
+                  .addModifiers(PRIVATE, STATIC)
+                  .returns(long.class)
+                  .addParameter(long.class, "hash")
+                  .addParameter(long.class, "value")
+                  .addStatement("return Long.rotateLeft(hash ^ (value * HASH_PRIME_1), 31) * HASH_PRIME_2")
                   .build();
     }
 
@@ -316,6 +488,7 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                 .addMethod(wrapWithArrayMethod())
                 .addMethod(iterateMethod())
                 .addMethod(rebuildMethod())
+                .addMethod(rebuildRequiredMethod())
                 .addMethod(setMethod())
                 .addType(visitorInterface())
                 .build();
@@ -529,6 +702,16 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                 .build();
         }
 
+        private MethodSpec rebuildRequiredMethod()
+        {
+            return methodBuilder("rebuildRequired")
+                .addModifiers(PUBLIC)
+                .returns(boolean.class)
+                .addParameter(int.class, "maxLength")
+                .addStatement("return false")
+                .build();
+        }
+
         private MethodSpec setMethod()
         {
             return methodBuilder("set")
@@ -32,7 +32,6 @@ import static org.reaktivity.maven.plugins.nukleus.internal.generate.TypeNames.M
 
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -72,6 +71,9 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
     private static final String BIT_MASK = "BIT_MASK";
     private static final String FIRST_FIELD = "FIRST_FIELD";
 
+    // fields decoded per wrap helper, keeping each within HotSpot FreqInlineSize (325 bytes)
+    private static final int FIELDS_PER_METHOD = 4;
+
     static
     {
         Map<TypeName, String> getterNames = new HashMap<>();
@@ -107,6 +109,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
     }
 
     private final String baseName;
+    private final boolean lazy;
     private final TypeSpec.Builder builder;
     private final MemberSizeConstantGenerator memberSizeConstant;
     private final MemberOffsetConstantGenerator memberOffsetConstant;
@@ -125,7 +128,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
     private final WrapMethodGenerator wrapMethod;
     private final TryWrapMethodGenerator tryWrapMethod;
     private final LimitMethodGenerator limitMethod;
-    private final ToStringMethodGenerator toStringMethod;
+    private final AppendToMethodGenerator appendToMethod;
     private final BuilderClassGenerator builderClass;
 
     public ListFlyweightGenerator(
@@ -138,9 +141,26 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         Byte missingFieldByte,
         TypeResolver resolver,
         AstByteOrder byteOrder)
+    {
+        this(listName, listFWName, baseName, templateType, lengthTypeName, fieldCountTypeName, missingFieldByte, resolver,
+            byteOrder, false);
+    }
+
+    public ListFlyweightGenerator(
+        ClassName listName,
+        ClassName listFWName,
+        String baseName,
+        AstType templateType,
+        TypeName lengthTypeName,
+        TypeName fieldCountTypeName,
+        Byte missingFieldByte,
+        TypeResolver resolver,
+        AstByteOrder byteOrder,
+        boolean lazy)
     {
         super(listName);
         this.baseName = baseName;
+        this.lazy = lazy && missingFieldByte == null && templateType == null;
         this.builder = builder(listName, templateType, resolver);
         this.memberSizeConstant = new MemberSizeConstantGenerator(listName, builder, templateType, lengthTypeName,
             fieldCountTypeName, missingFieldByte);
@@ -157,12 +177,13 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         this.fieldCountMethod = new FieldCountMethodGenerator(listName, builder, templateType, fieldCountTypeName, resolver,
             byteOrder);
         this.fieldsMethod = new FieldsMethodGenerator(listName, builder, templateType, resolver);
-        this.memberAccessor = new MemberAccessorGenerator(listName, builder, templateType, resolver, missingFieldByte, byteOrder);
+        this.memberAccessor = new MemberAccessorGenerator(listName, builder, templateType, resolver, missingFieldByte, byteOrder,
+            this.lazy);
         this.hasFieldMethod = new HasFieldMethodGenerator(listName, builder, templateType, missingFieldByte);
         this.wrapMethod = new WrapMethodGenerator(missingFieldByte, templateType, resolver);
         this.tryWrapMethod = new TryWrapMethodGenerator(missingFieldByte, templateType, resolver);
         this.limitMethod = new LimitMethodGenerator(lengthTypeName, templateType, resolver, byteOrder);
-        this.toStringMethod = new ToStringMethodGenerator(missingFieldByte, templateType);
+        this.appendToMethod = new AppendToMethodGenerator(missingFieldByte, templateType, resolver);
         this.builderClass = new BuilderClassGenerator(listName, listFWName, templateType, lengthTypeName,
             fieldCountTypeName, resolver, missingFieldByte);
     }
@@ -195,7 +216,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         hasFieldMethod.addMember(name);
         wrapMethod.addMember(name, typeName, defaultValue, isRequired);
         tryWrapMethod.addMember(name, typeName, defaultValue, isRequired);
-        toStringMethod.addMember(name, typeName, defaultValue, isRequired);
+        appendToMethod.addMember(name, type, typeName, defaultValue, isRequired, arrayItemTypeName, variantOfMapKeyType);
         builderClass.addMember(name, type, typeName, unsignedTypeName, usedAsSize,
             byteOrder, isRequired, arrayItemTypeName, variantOfMapKeyType, variantOfMapValueType, mapParamName,
             originalMapKeyName, originalMapValueName);
@@ -219,11 +240,19 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         fieldsMethod.build();
         memberAccessor.build();
         hasFieldMethod.build();
+        if (lazy)
+        {
+            builder.addField(int.class, "locatedField", PRIVATE)
+                .addField(int.class, "locatedLimit", PRIVATE);
+        }
         return builder.addField(bitmask())
             .addMethod(wrapMethod.generate())
+            .addMethods(wrapMethod.helpers())
             .addMethod(tryWrapMethod.generate())
+            .addMethods(tryWrapMethod.helpers())
             .addMethod(limitMethod.generate())
-            .addMethod(toStringMethod.generate())
+            .addMethod(toStringMethod())
+            .addMethod(appendToMethod.generate())
             .addType(builderClass.generate())
             .build();
     }
@@ -802,6 +831,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         private final Byte nullValue;
         private final AstType templateType;
         private final AstByteOrder byteOrder;
+        private final boolean lazy;
 
         private MemberAccessorGenerator(
             ClassName thisType,
@@ -809,13 +839,15 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             AstType templateType,
             TypeResolver resolver,
             Byte nullValue,
-            AstByteOrder byteOrder)
+            AstByteOrder byteOrder,
+            boolean lazy)
         {
             super(thisType, builder);
             this.resolver = resolver;
             this.nullValue = nullValue;
             this.templateType = templateType;
             this.byteOrder = byteOrder;
+            this.lazy = lazy;
         }
 
         public MemberAccessorGenerator addMember(
@@ -875,7 +907,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         {
             TypeName generateType = (unsignedType != null) ? unsignedType : type;
 
-            CodeBlock.Builder codeBlock = CodeBlock.builder();
+            CodeBlock.Builder codeBlock = locate(name);
 
             String getterName = GETTER_NAMES.get(type);
             if (getterName == null)
@@ -959,7 +991,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             AstType mapValueType,
             ClassName mapParamName)
         {
-            CodeBlock.Builder codeBlock = CodeBlock.builder();
+            CodeBlock.Builder codeBlock = locate(name);
             TypeName returnType = mapParamName == null ? typeName : ParameterizedTypeName.get((ClassName) typeName, mapParamName);
             AstNamedNode namedNode = resolver.resolve(type.name());
             if (namedNode == null)
@@ -998,6 +1030,19 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 .build());
         }
 
+        private CodeBlock.Builder locate(
+            String name)
+        {
+            CodeBlock.Builder codeBlock = CodeBlock.builder();
+            if (lazy)
+            {
+                codeBlock.beginControlFlow("if (locatedField <= $L)", fieldIndex(name))
+                    .addStatement("locate($L)", fieldIndex(name))
+                    .endControlFlow();
+            }
+            return codeBlock;
+        }
+
         private TypeName addVariantMember(
             Object defaultValue,
             CodeBlock.Builder codeBlock,
@@ -1098,6 +1143,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
     private final class WrapMethodGenerator extends MethodSpecGenerator
     {
         private final List<ListField> fields = new ArrayList<>();
+        private final List<MethodSpec> helpers = new ArrayList<>();
         private final Byte missingFieldByte;
         private final AstType templateType;
         private final ClassName templateTypeName;
@@ -1123,6 +1169,11 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             return this;
         }
 
+        public List<MethodSpec> helpers()
+        {
+            return helpers;
+        }
+
         private void generateWrapWithDefaultNull()
         {
             builder.addStatement("final int fieldCount = fieldCount()")
@@ -1137,25 +1188,58 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     .addStatement("int fieldLimit = 0");
             }
 
-            builder.beginControlFlow("for (int field = $L; field < fieldCount; field++)",
-                    fieldIndex(fields.get(0).fieldName()))
+            String buffer = templateType == null ? "buffer" : "fieldsBuffer";
+            List<List<ListField>> chunks = chunks(fields);
+            if (chunks.size() > 1)
+            {
+                for (int index = 0; index < chunks.size(); index++)
+                {
+                    List<ListField> chunk = chunks.get(index);
+                    String helperName = "wrapFields" + index;
+                    builder.addStatement("fieldLimit = $L($L, fieldLimit, maxLimit, limit, fieldCount)", helperName, buffer);
+
+                    MethodSpec.Builder helper = methodBuilder(helperName)
+                        .addModifiers(PRIVATE)
+                        .addParameter(DIRECT_BUFFER_TYPE, buffer)
+                        .addParameter(int.class, "fieldLimit")
+                        .addParameter(int.class, "maxLimit")
+                        .addParameter(int.class, "limit")
+                        .addParameter(int.class, "fieldCount")
+                        .returns(int.class);
+                    String condition = format("field < fieldCount && field <= %s", fieldIndex(last(chunk).fieldName()));
+                    generateFieldsWithDefaultNull(helper, chunk, condition, buffer);
+                    helpers.add(helper.addStatement("return fieldLimit").build());
+                }
+            }
+            else
+            {
+                generateFieldsWithDefaultNull(builder, fields, "field < fieldCount", buffer);
+            }
+        }
+
+        private void generateFieldsWithDefaultNull(
+            MethodSpec.Builder code,
+            List<ListField> fields,
+            String condition,
+            String buffer)
+        {
+            code.beginControlFlow("for (int field = $L; $L; field++)", fieldIndex(fields.get(0).fieldName()), condition)
                 .addStatement("checkLimit(fieldLimit + $T.SIZE_OF_BYTE, limit)", BIT_UTIL_TYPE)
                 .beginControlFlow("switch (field)");
 
             for (ListField field : fields)
             {
                 String fieldName = field.fieldName();
-                builder.beginControlFlow("case $L:", fieldIndex(fieldName));
-                String buffer = templateType == null ? "buffer" : "fieldsBuffer";
+                code.beginControlFlow("case $L:", fieldIndex(fieldName));
                 if (field.isRequired())
                 {
-                    builder.addStatement("$LRO.wrap($L, fieldLimit, maxLimit)", fieldName, buffer)
+                    code.addStatement("$LRO.wrap($L, fieldLimit, maxLimit)", fieldName, buffer)
                         .addStatement("fieldLimit = $LRO.limit()", fieldName)
                         .addStatement("bitmask |= 1 << $L", fieldIndex(fieldName));
                 }
                 else
                 {
-                    builder.beginControlFlow("if ($L.getByte(fieldLimit) != MISSING_FIELD_BYTE)", buffer)
+                    code.beginControlFlow("if ($L.getByte(fieldLimit) != MISSING_FIELD_BYTE)", buffer)
                         .addStatement("$LRO.wrap($L, fieldLimit, maxLimit)", fieldName, buffer)
                         .addStatement("fieldLimit = $LRO.limit()", fieldName)
                         .addStatement("bitmask |= 1 << $L", fieldIndex(fieldName))
@@ -1164,57 +1248,125 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                         .addStatement("fieldLimit += MISSING_FIELD_BYTE_SIZE")
                         .endControlFlow();
                 }
-                builder.addStatement("break")
+                code.addStatement("break")
                     .endControlFlow();
             }
+
+            code.endControlFlow()
+                .endControlFlow();
+        }
+
+        private void generateLazyWrap()
+        {
+            builder.addStatement("final long bitmask = bitmask()");
+            for (ListField field : fields)
+            {
+                if (field.isRequired())
+                {
+                    builder.beginControlFlow("if ((bitmask & $L) == 0)", maskConstant(field.fieldName()))
+                        .addStatement("throw new IllegalArgumentException(\"Field \\\"$L\\\" is required but not set\")",
+                            field.fieldName())
+                        .endControlFlow();
+                }
+            }
+            builder.addStatement("locatedField = $L", fieldIndex(fields.get(0).fieldName()))
+                .addStatement("locatedLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK));
+
+            MethodSpec.Builder locate = methodBuilder("locate")
+                .addModifiers(PRIVATE)
+                .addParameter(int.class, "index")
+                .addStatement("final DirectBuffer buffer = buffer()")
+                .addStatement("final int maxLimit = limit()")
+                .addStatement("final long bitmask = bitmask()")
+                .addStatement("int fieldLimit = locatedLimit");
+            generateFields(locate, fields, "locatedField", "index + 1");
+            helpers.add(locate.addStatement("checkLimit(fieldLimit, maxLimit)")
+                .addStatement("locatedField = index + 1")
+                .addStatement("locatedLimit = fieldLimit")
+                .build());
         }
 
         private void generateWrap()
         {
             builder.addStatement("final long bitmask = bitmask()")
-                .addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK))
-                .beginControlFlow("for (int field = $L; field < $L + 1; field++)",
-                    fieldIndex(fields.get(0).fieldName()), fieldIndex(fields.get(fields.size() - 1).fieldName()))
+                .addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK));
+
+            List<List<ListField>> chunks = chunks(fields);
+            if (chunks.size() > 1)
+            {
+                for (int index = 0; index < chunks.size(); index++)
+                {
+                    String helperName = "wrapFields" + index;
+                    builder.addStatement("fieldLimit = $L(buffer, fieldLimit, maxLimit, bitmask)", helperName);
+
+                    MethodSpec.Builder helper = methodBuilder(helperName)
+                        .addModifiers(PRIVATE)
+                        .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                        .addParameter(int.class, "fieldLimit")
+                        .addParameter(int.class, "maxLimit")
+                        .addParameter(long.class, "bitmask")
+                        .returns(int.class);
+                    List<ListField> chunk = chunks.get(index);
+                    generateFields(helper, chunk, fieldIndex(chunk.get(0).fieldName()), bound(chunk));
+                    helpers.add(helper.addStatement("return fieldLimit").build());
+                }
+            }
+            else
+            {
+                generateFields(builder, fields, fieldIndex(fields.get(0).fieldName()), bound(fields));
+            }
+        }
+
+        private void generateFields(
+            MethodSpec.Builder code,
+            List<ListField> fields,
+            String first,
+            String bound)
+        {
+            code.beginControlFlow("for (int field = $L; field < $L; field++)", first, bound)
                 .beginControlFlow("switch (field)");
             for (ListField field : fields)
             {
                 String fieldName = field.fieldName();
-                builder.beginControlFlow("case $L:", fieldIndex(fieldName));
+                code.beginControlFlow("case $L:", fieldIndex(fieldName));
                 if (field.isRequired())
                 {
-                    builder.beginControlFlow("if ((bitmask & $L) == 0)", maskConstant(fieldName))
+                    code.beginControlFlow("if ((bitmask & $L) == 0)", maskConstant(fieldName))
                         .addStatement("throw new IllegalArgumentException(\"Field \\\"$L\\\" is required but not set\")",
                             fieldName)
                         .endControlFlow();
                     if (field.type().isPrimitive())
                     {
-                        builder.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
+                        code.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
                             .addStatement("fieldLimit += $L", fieldSize(fieldName));
                     }
                     else
                     {
-                        builder.addStatement("$LRO.wrap(buffer, fieldLimit, maxLimit)", fieldName)
+                        code.addStatement("$LRO.wrap(buffer, fieldLimit, maxLimit)", fieldName)
                             .addStatement("fieldLimit = $LRO.limit()", fieldName);
                     }
                 }
                 else
                 {
-                    builder.beginControlFlow("if ((bitmask & $L) != 0)", maskConstant(fieldName));
+                    code.beginControlFlow("if ((bitmask & $L) != 0)", maskConstant(fieldName));
                     if (field.type().isPrimitive())
                     {
-                        builder.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
+                        code.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
                             .addStatement("fieldLimit += $L", fieldSize(fieldName));
                     }
                     else
                     {
-                        builder.addStatement("$LRO.wrap(buffer, fieldLimit, maxLimit)", fieldName)
+                        code.addStatement("$LRO.wrap(buffer, fieldLimit, maxLimit)", fieldName)
                             .addStatement("fieldLimit = $LRO.limit()", fieldName);
                     }
-                    builder.endControlFlow();
+                    code.endControlFlow();
                 }
-                builder.addStatement("break")
+                code.addStatement("break")
                     .endControlFlow();
             }
+
+            code.endControlFlow()
+                .endControlFlow();
         }
 
         @Override
@@ -1237,7 +1389,13 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             }
             builder.addStatement("final int limit = limit()")
                 .addStatement("checkLimit(limit, maxLimit)");
-            if (missingFieldByte == null && templateType == null)
+            if (lazy)
+            {
+                generateLazyWrap();
+                return builder.addStatement("return this")
+                    .build();
+            }
+            else if (missingFieldByte == null && templateType == null)
             {
                 generateWrap();
             }
@@ -1245,9 +1403,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             {
                 generateWrapWithDefaultNull();
             }
-            return builder.endControlFlow()
-                .endControlFlow()
-                .addStatement("checkLimit(fieldLimit, limit)")
+            return builder.addStatement("checkLimit(fieldLimit, limit)")
                 .addStatement("return this")
                 .build();
         }
@@ -1256,6 +1412,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
     private final class TryWrapMethodGenerator extends MethodSpecGenerator
     {
         private final List<ListField> fields = new ArrayList<>();
+        private final List<MethodSpec> helpers = new ArrayList<>();
         private final Byte missingFieldByte;
         private final AstType templateType;
         private final ClassName templateTypeName;
@@ -1281,6 +1438,11 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             return this;
         }
 
+        public List<MethodSpec> helpers()
+        {
+            return helpers;
+        }
+
         @Override
         public MethodSpec generate()
         {
@@ -1309,7 +1471,13 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 .addStatement("return null")
                 .endControlFlow();
 
-            if (missingFieldByte == null && templateType == null)
+            if (lazy)
+            {
+                generateLazyTryWrap();
+                return builder.addStatement("return this")
+                    .build();
+            }
+            else if (missingFieldByte == null && templateType == null)
             {
                 generateTryWrap();
             }
@@ -1317,9 +1485,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             {
                 generateTryWrapWithDefaultNull();
             }
-            return builder.endControlFlow()
-                .endControlFlow()
-                .beginControlFlow("if (fieldLimit > limit)")
+            return builder.beginControlFlow("if (fieldLimit > limit)")
                 .addStatement("return null")
                 .endControlFlow()
                 .addStatement("return this")
@@ -1339,30 +1505,68 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 builder.addStatement("DirectBuffer fieldsBuffer = fields()")
                     .addStatement("int fieldLimit = 0");
             }
-            builder.beginControlFlow("for (int field = $L; field < fieldCount; field++)",
-                    fieldIndex(fields.get(0).fieldName()))
+
+            String buffer = templateType == null ? "buffer" : "fieldsBuffer";
+            List<List<ListField>> chunks = chunks(fields);
+            if (chunks.size() > 1)
+            {
+                for (int index = 0; index < chunks.size(); index++)
+                {
+                    List<ListField> chunk = chunks.get(index);
+                    String helperName = "tryWrapFields" + index;
+                    builder.addStatement("fieldLimit = $L($L, fieldLimit, maxLimit, limit, fieldCount)", helperName, buffer)
+                        .beginControlFlow("if (fieldLimit == -1)")
+                        .addStatement("return null")
+                        .endControlFlow();
+
+                    MethodSpec.Builder helper = methodBuilder(helperName)
+                        .addModifiers(PRIVATE)
+                        .addParameter(DIRECT_BUFFER_TYPE, buffer)
+                        .addParameter(int.class, "fieldLimit")
+                        .addParameter(int.class, "maxLimit")
+                        .addParameter(int.class, "limit")
+                        .addParameter(int.class, "fieldCount")
+                        .returns(int.class);
+                    String condition = format("field < fieldCount && field <= %s", fieldIndex(last(chunk).fieldName()));
+                    generateFieldsWithDefaultNull(helper, chunk, condition, buffer, "return -1");
+                    helpers.add(helper.addStatement("return fieldLimit").build());
+                }
+            }
+            else
+            {
+                generateFieldsWithDefaultNull(builder, fields, "field < fieldCount", buffer, "return null");
+            }
+        }
+
+        private void generateFieldsWithDefaultNull(
+            MethodSpec.Builder code,
+            List<ListField> fields,
+            String condition,
+            String buffer,
+            String fail)
+        {
+            code.beginControlFlow("for (int field = $L; $L; field++)", fieldIndex(fields.get(0).fieldName()), condition)
                 .beginControlFlow("if (fieldLimit + $T.SIZE_OF_BYTE > limit)", BIT_UTIL_TYPE)
-                .addStatement("return null")
+                .addStatement(fail)
                 .endControlFlow()
                 .beginControlFlow("switch (field)");
             for (ListField field : fields)
             {
                 String fieldName = field.fieldName();
-                builder.beginControlFlow("case $L:", fieldIndex(fieldName));
-                String buffer = templateType == null ? "buffer" : "fieldsBuffer";
+                code.beginControlFlow("case $L:", fieldIndex(fieldName));
                 if (field.isRequired())
                 {
-                    builder.beginControlFlow("if ($LRO.tryWrap($L, fieldLimit, maxLimit) == null)", fieldName, buffer)
-                        .addStatement("return null")
+                    code.beginControlFlow("if ($LRO.tryWrap($L, fieldLimit, maxLimit) == null)", fieldName, buffer)
+                        .addStatement(fail)
                         .endControlFlow()
                         .addStatement("fieldLimit = $LRO.limit()", fieldName)
                         .addStatement("bitmask |= 1 << $L", fieldIndex(fieldName));
                 }
                 else
                 {
-                    builder.beginControlFlow("if ($L.getByte(fieldLimit) != MISSING_FIELD_BYTE)", buffer)
+                    code.beginControlFlow("if ($L.getByte(fieldLimit) != MISSING_FIELD_BYTE)", buffer)
                         .beginControlFlow("if ($LRO.tryWrap($L, fieldLimit, maxLimit) == null)", fieldName, buffer)
-                        .addStatement("return null")
+                        .addStatement(fail)
                         .endControlFlow()
                         .addStatement("fieldLimit = $LRO.limit()", fieldName)
                         .addStatement("bitmask |= 1 << $L", fieldIndex(fieldName))
@@ -1371,61 +1575,117 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                         .addStatement("fieldLimit += MISSING_FIELD_BYTE_SIZE")
                         .endControlFlow();
                 }
-                builder.addStatement("break")
+                code.addStatement("break")
                     .endControlFlow();
             }
+
+            code.endControlFlow()
+                .endControlFlow();
+        }
+
+        private void generateLazyTryWrap()
+        {
+            builder.addStatement("final long bitmask = bitmask()");
+            for (ListField field : fields)
+            {
+                if (field.isRequired())
+                {
+                    builder.beginControlFlow("if ((bitmask & $L) == 0)", maskConstant(field.fieldName()))
+                        .addStatement("return null")
+                        .endControlFlow();
+                }
+            }
+            builder.addStatement("locatedField = $L", fieldIndex(fields.get(0).fieldName()))
+                .addStatement("locatedLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK));
         }
 
         private void generateTryWrap()
         {
             builder.addStatement("final long bitmask = bitmask()")
-                .addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK))
-                .beginControlFlow("for (int field = $L; field < $L + 1; field++)",
-                    fieldIndex(fields.get(0).fieldName()), fieldIndex(fields.get(fields.size() - 1).fieldName()))
+                .addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK));
+
+            List<List<ListField>> chunks = chunks(fields);
+            if (chunks.size() > 1)
+            {
+                for (int index = 0; index < chunks.size(); index++)
+                {
+                    String helperName = "tryWrapFields" + index;
+                    builder.addStatement("fieldLimit = $L(buffer, fieldLimit, maxLimit, bitmask)", helperName)
+                        .beginControlFlow("if (fieldLimit == -1)")
+                        .addStatement("return null")
+                        .endControlFlow();
+
+                    MethodSpec.Builder helper = methodBuilder(helperName)
+                        .addModifiers(PRIVATE)
+                        .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                        .addParameter(int.class, "fieldLimit")
+                        .addParameter(int.class, "maxLimit")
+                        .addParameter(long.class, "bitmask")
+                        .returns(int.class);
+                    generateFields(helper, chunks.get(index), "return -1");
+                    helpers.add(helper.addStatement("return fieldLimit").build());
+                }
+            }
+            else
+            {
+                generateFields(builder, fields, "return null");
+            }
+        }
+
+        private void generateFields(
+            MethodSpec.Builder code,
+            List<ListField> fields,
+            String fail)
+        {
+            code.beginControlFlow("for (int field = $L; field < $L + 1; field++)",
+                    fieldIndex(fields.get(0).fieldName()), fieldIndex(last(fields).fieldName()))
                 .beginControlFlow("switch (field)");
 
             for (ListField field : fields)
             {
                 String fieldName = field.fieldName();
-                builder.beginControlFlow("case $L:", fieldIndex(fieldName));
+                code.beginControlFlow("case $L:", fieldIndex(fieldName));
                 if (field.isRequired())
                 {
-                    builder.beginControlFlow("if ((bitmask & $L) == 0)", maskConstant(fieldName))
-                        .addStatement("return null")
+                    code.beginControlFlow("if ((bitmask & $L) == 0)", maskConstant(fieldName))
+                        .addStatement(fail)
                         .endControlFlow();
                     if (field.type().isPrimitive())
                     {
-                        builder.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
+                        code.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
                             .addStatement("fieldLimit += $L", fieldSize(fieldName));
                     }
                     else
                     {
-                        builder.beginControlFlow("if ($LRO.tryWrap(buffer, fieldLimit, maxLimit) == null)", fieldName)
-                            .addStatement("return null")
+                        code.beginControlFlow("if ($LRO.tryWrap(buffer, fieldLimit, maxLimit) == null)", fieldName)
+                            .addStatement(fail)
                             .endControlFlow()
                             .addStatement("fieldLimit = $LRO.limit()", fieldName);
                     }
                 }
                 else
                 {
-                    builder.beginControlFlow("if ((bitmask & $L) != 0)", maskConstant(fieldName));
+                    code.beginControlFlow("if ((bitmask & $L) != 0)", maskConstant(fieldName));
                     if (field.type().isPrimitive())
                     {
-                        builder.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
+                        code.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
                             .addStatement("fieldLimit += $L", fieldSize(fieldName));
                     }
                     else
                     {
-                        builder.beginControlFlow("if ($LRO.tryWrap(buffer, fieldLimit, maxLimit) == null)", fieldName)
-                            .addStatement("return null")
+                        code.beginControlFlow("if ($LRO.tryWrap(buffer, fieldLimit, maxLimit) == null)", fieldName)
+                            .addStatement(fail)
                             .endControlFlow()
                             .addStatement("fieldLimit = $LRO.limit()", fieldName);
                     }
-                    builder.endControlFlow();
+                    code.endControlFlow();
                 }
-                builder.addStatement("break")
+                code.addStatement("break")
                     .endControlFlow();
             }
+
+            code.endControlFlow()
+                .endControlFlow();
         }
     }
 
@@ -1477,34 +1737,97 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
-    private final class ToStringMethodGenerator extends MethodSpecGenerator
+    private MethodSpec toStringMethod()
+    {
+        return methodBuilder("toString")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(String.class)
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private final class AppendToMethodGenerator extends MethodSpecGenerator
     {
         private final List<ListField> fields = new ArrayList<>();
+        private final List<CodeBlock> appends = new ArrayList<>();
         private final Byte nullValue;
         private final AstType templateType;
+        private final TypeResolver resolver;
 
-        private ToStringMethodGenerator(
+        private AppendToMethodGenerator(
             Byte nullValue,
-            AstType templateType)
+            AstType templateType,
+            TypeResolver resolver)
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
-                .returns(String.class));
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder"));
             this.nullValue = nullValue;
             this.templateType = templateType;
+            this.resolver = resolver;
         }
 
-        public ToStringMethodGenerator addMember(
+        public AppendToMethodGenerator addMember(
             String name,
-            TypeName type,
+            AstType type,
+            TypeName typeName,
             Object defaultValue,
-            boolean isRequired)
+            boolean isRequired,
+            AstType arrayItemTypeName,
+            AstType mapKeyType)
         {
-            fields.add(new ListField(name, type, isRequired, defaultValue));
+            fields.add(new ListField(name, typeName, isRequired, defaultValue));
+            appends.add(appendMember(name, type, typeName, arrayItemTypeName, mapKeyType));
             return this;
         }
 
+        private CodeBlock appendMember(
+            String name,
+            AstType type,
+            TypeName typeName,
+            AstType arrayItemTypeName,
+            AstType mapKeyType)
+        {
+            String label = String.format(", %s=", name);
+            boolean isString = typeName instanceof ClassName && isStringType((ClassName) typeName);
+            boolean isValue = typeName.isPrimitive();
+            AstNamedNode namedNode = isValue ? null : resolver.resolve(type.name());
+            while (namedNode != null && isTypedefType(namedNode.getKind()))
+            {
+                type = ((AstTypedefNode) namedNode).originalType();
+                namedNode = resolver.resolve(type.name());
+            }
+            if (namedNode != null && isEnumType(namedNode.getKind()))
+            {
+                isValue = true;
+            }
+            else if (namedNode != null && isVariantType(namedNode.getKind()))
+            {
+                AstType ofType = ((AstVariantNode) namedNode).of();
+                isValue = resolver.resolveType(ofType).isPrimitive() || resolver.resolveUnsignedType(ofType) != null;
+                isString = !isValue && arrayItemTypeName == null && mapKeyType == null &&
+                    !AstType.BOUNDED_OCTETS.equals(ofType);
+            }
+
+            CodeBlock append;
+            if (isValue)
+            {
+                append = CodeBlock.of("builder.append($S).append($L())", label, name);
+            }
+            else if (isString)
+            {
+                append = CodeBlock.of("$L().appendStringTo(builder.append($S)).append('\"')", name, label + "\"");
+            }
+            else
+            {
+                append = CodeBlock.of("$L().appendTo(builder.append($S))", name, label);
+            }
+            return append;
+        }
+
         @Override
         public MethodSpec generate()
         {
@@ -1513,52 +1836,33 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             {
                 builder.addStatement("final long bitmask = bitmask()");
             }
-            for (ListField field : fields)
-            {
-                if (!field.isRequired() && field.defaultValue() == null)
-                {
-                    builder.addStatement("Object $L = null", field.fieldName());
-                }
-            }
-            builder.addStatement("StringBuilder format = new StringBuilder()")
-                .addStatement("format.append(\"$L [bitmask={0}\")", typeName);
-            int fieldIndex = 1;
-            for (ListField field : fields)
+            builder.addStatement("final int digits = Math.max(16 - Long.numberOfLeadingZeros(bitmask) / 4, 1)")
+                .addStatement("builder.append($S)", String.format("%s [bitmask=0x", typeName))
+                .beginControlFlow("for (int i = digits; i < 16; i++)")
+                .addStatement("builder.append(' ')")
+                .endControlFlow()
+                .beginControlFlow("for (int i = digits - 1; i >= 0; i--)")
+                .addStatement("final int digit = (int) (bitmask >>> (i << 2)) & 0x0f")
+                .addStatement("builder.append(Character.toUpperCase(Character.forDigit(digit, 16)))")
+                .endControlFlow();
+            for (int index = 0; index < fields.size(); index++)
             {
-                String name = field.fieldName();
+                ListField field = fields.get(index);
+                CodeBlock append = appends.get(index);
                 if (field.isRequired() || field.defaultValue() != null)
                 {
-                    builder.addStatement("format.append(\", $L={$L}\")", name, fieldIndex);
+                    builder.addStatement("$L", append);
                 }
                 else
                 {
+                    String name = field.fieldName();
                     builder.beginControlFlow("if (has$L())", String.format("%s%s", Character.toUpperCase(name.charAt(0)),
                         name.substring(1)))
-                        .addStatement("format.append(\", $L={$L}\")", name, fieldIndex)
-                        .addStatement("$L = $L()", name, name)
+                        .addStatement("$L", append)
                         .endControlFlow();
                 }
-                fieldIndex++;
             }
-            builder.addStatement("format.append(\"]\")");
-
-            CodeBlock.Builder returnStatement = CodeBlock.builder()
-                .add("$[").add("return $T.format(format.toString(), String.format(\"0x%16X\", bitmask)",
-                    MessageFormat.class);
-            for (ListField field : fields)
-            {
-                String name = field.fieldName();
-                if (field.isRequired() || field.defaultValue() != null)
-                {
-                    returnStatement.add(", $L()", name);
-                }
-                else
-                {
-                    returnStatement.add(", $L", name);
-                }
-            }
-            returnStatement.add(");\n$]");
-            return builder.addCode(returnStatement.build())
+            return builder.addStatement("return builder.append(']')")
                 .build();
         }
     }
@@ -3366,6 +3670,29 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             variantFWName.substring(1, variantFWName.length() - 2));
     }
 
+    private static List<List<ListField>> chunks(
+        List<ListField> fields)
+    {
+        List<List<ListField>> chunks = new ArrayList<>();
+        for (int index = 0; index < fields.size(); index += FIELDS_PER_METHOD)
+        {
+            chunks.add(fields.subList(index, Math.min(index + FIELDS_PER_METHOD, fields.size())));
+        }
+        return chunks;
+    }
+
+    private static String bound(
+        List<ListField> fields)
+    {
+        return format("%s + 1", fieldIndex(last(fields).fieldName()));
+    }
+
+    private static ListField last(
+        List<ListField> fields)
+    {
+        return fields.get(fields.size() - 1);
+    }
+
     private static String variantRO(
         ClassName className)
     {
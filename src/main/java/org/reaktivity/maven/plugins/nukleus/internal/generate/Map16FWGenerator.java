@@ -46,6 +46,7 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
     private final TypeVariableName typeVarK;
     private final TypeVariableName typeVarV;
     private final BuilderClassBuilder builderClassBuilder;
+    private final MapKeyLookupGenerator keyLookup;
 
     public Map16FWGenerator(
         ClassName flyweightType,
@@ -62,11 +63,14 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .addTypeVariable(typeVarV);
 
         this.builderClassBuilder = new BuilderClassBuilder(thisName, mapType, flyweightType);
+        this.keyLookup = new MapKeyLookupGenerator(thisRawName, classBuilder, flyweightType, typeVarK, typeVarV);
     }
 
     @Override
     public TypeSpec generate()
     {
+        keyLookup.build();
+
         return classBuilder
             .addField(lengthSizeConstant())
             .addField(fieldCountSizeConstant())
@@ -88,6 +92,7 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .addMethod(wrapMethod())
             .addMethod(limitMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addType(builderClassBuilder.build())
             .build();
     }
@@ -247,6 +252,8 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .beginControlFlow("if (super.tryWrap(buffer, offset, maxLimit) == null)")
             .addStatement("return null")
             .endControlFlow()
+            .addStatement("keyIndexed = false")
+            .addStatement("keyLookups = 0")
             .addStatement("int entryOffset = offset + FIELDS_OFFSET")
             .addStatement("int fieldCount = fieldCount()")
             .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
@@ -280,6 +287,8 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .addParameter(int.class, "maxLimit")
             .returns(thisName)
             .addStatement("super.wrap(buffer, offset, maxLimit)")
+            .addStatement("keyIndexed = false")
+            .addStatement("keyLookups = 0")
             .addStatement("int entryOffset = offset + FIELDS_OFFSET")
             .addStatement("int fieldCount = fieldCount()")
             .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
@@ -310,7 +319,18 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"map16<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .addStatement("return builder.append(\"map16<\").append(length()).append(\", \").append(fieldCount()).append('>')")
             .build();
     }
 
@@ -46,6 +46,7 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
     private final TypeVariableName typeVarK;
     private final TypeVariableName typeVarV;
     private final Map32FWGenerator.BuilderClassBuilder builderClassBuilder;
+    private final MapKeyLookupGenerator keyLookup;
 
     public Map32FWGenerator(
         ClassName flyweightType,
@@ -62,11 +63,14 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .addTypeVariable(typeVarV);
 
         this.builderClassBuilder = new Map32FWGenerator.BuilderClassBuilder(thisName, mapType, flyweightType);
+        this.keyLookup = new MapKeyLookupGenerator(thisRawName, classBuilder, flyweightType, typeVarK, typeVarV);
     }
 
     @Override
     public TypeSpec generate()
     {
+        keyLookup.build();
+
         return classBuilder
             .addField(lengthSizeConstant())
             .addField(fieldCountSizeConstant())
@@ -87,6 +91,7 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .addMethod(wrapMethod())
             .addMethod(limitMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addType(builderClassBuilder.build())
             .build();
     }
@@ -239,6 +244,8 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .beginControlFlow("if (super.tryWrap(buffer, offset, maxLimit) == null)")
             .addStatement("return null")
             .endControlFlow()
+            .addStatement("keyIndexed = false")
+            .addStatement("keyLookups = 0")
             .addStatement("int entryOffset = offset + FIELDS_OFFSET")
             .addStatement("int fieldCount = fieldCount()")
             .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
@@ -272,6 +279,8 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .addParameter(int.class, "maxLimit")
             .returns(thisName)
             .addStatement("super.wrap(buffer, offset, maxLimit)")
+            .addStatement("keyIndexed = false")
+            .addStatement("keyLookups = 0")
             .addStatement("int entryOffset = offset + FIELDS_OFFSET")
             .addStatement("int fieldCount = fieldCount()")
             .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
@@ -302,7 +311,18 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"map32<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .addStatement("return builder.append(\"map32<\").append(length()).append(\", \").append(fieldCount()).append('>')")
             .build();
     }
 
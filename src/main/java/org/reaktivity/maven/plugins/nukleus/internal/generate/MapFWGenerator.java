@@ -64,6 +64,8 @@ public final class MapFWGenerator extends ParameterizedTypeSpecGenerator
             .addMethod(fieldCountMethod())
             .addMethod(forEachMethod())
             .addMethod(entriesMethod())
+            .addMethod(getMethod())
+            .addMethod(containsKeyMethod())
             .addType(builderClassBuilder.build())
             .build();
     }
@@ -101,6 +103,24 @@ public final class MapFWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec getMethod()
+    {
+        return methodBuilder("get")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .addParameter(typeVarK, "key")
+            .returns(typeVarV)
+            .build();
+    }
+
+    private MethodSpec containsKeyMethod()
+    {
+        return methodBuilder("containsKey")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .addParameter(typeVarK, "key")
+            .returns(boolean.class)
+            .build();
+    }
+
     private static final class BuilderClassBuilder
     {
         private final TypeSpec.Builder classBuilder;
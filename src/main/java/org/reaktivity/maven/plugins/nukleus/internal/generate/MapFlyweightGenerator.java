@@ -119,10 +119,13 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
             .addMethod(fieldCountMethod())
             .addMethod(entriesMethod())
             .addMethod(forEachMethod())
+            .addMethod(getMethod())
+            .addMethod(containsKeyMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(limitMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addType(builderClassBuilder.build())
             .build();
     }
@@ -189,6 +192,28 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec getMethod()
+    {
+        return methodBuilder("get")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(keyTypeName, "key")
+            .returns(valueTypeName)
+            .addStatement("return $LRO.get().get(key)", fieldName(templateMapTypeName))
+            .build();
+    }
+
+    private MethodSpec containsKeyMethod()
+    {
+        return methodBuilder("containsKey")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(keyTypeName, "key")
+            .returns(boolean.class)
+            .addStatement("return $LRO.get().containsKey(key)", fieldName(templateMapTypeName))
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -243,8 +268,20 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"$L[%d, %d]\", $LRO.get().length(), $LRO.get().fieldCount())",
-                thisName.simpleName(), fieldName(templateMapTypeName), fieldName(templateMapTypeName))
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .addStatement("return builder.append($S).append($LRO.get().length()).append(\", \")" +
+                ".append($LRO.get().fieldCount()).append(']')", thisName.simpleName() + "[",
+                fieldName(templateMapTypeName), fieldName(templateMapTypeName))
             .build();
     }
 
@@ -0,0 +1,234 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal.generate;
+
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.maven.plugins.nukleus.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
+
+import java.util.Arrays;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeVariableName;
+
+final class MapKeyLookupGenerator extends ClassSpecMixinGenerator
+{
+    private final ClassName flyweightType;
+    private final TypeVariableName typeVarK;
+    private final TypeVariableName typeVarV;
+
+    MapKeyLookupGenerator(
+        ClassName thisType,
+        TypeSpec.Builder builder,
+        ClassName flyweightType,
+        TypeVariableName typeVarK,
+        TypeVariableName typeVarV)
+    {
+        super(thisType, builder);
+        this.flyweightType = flyweightType;
+        this.typeVarK = typeVarK;
+        this.typeVarV = typeVarV;
+    }
+
+    @Override
+    public TypeSpec.Builder build()
+    {
+        return builder
+            .addField(FieldSpec.builder(int.class, "KEY_INDEX_MIN_ENTRIES", PRIVATE, STATIC, FINAL)
+                .initializer("8")
+                .build())
+            .addField(FieldSpec.builder(int.class, "KEY_INDEX_LOOKUPS", PRIVATE, STATIC, FINAL)
+                .initializer("2")
+                .build())
+            .addField(FieldSpec.builder(int[].class, "keyIndex", PRIVATE).initializer("new int[0]").build())
+            .addField(FieldSpec.builder(int.class, "keyIndexMask", PRIVATE).build())
+            .addField(FieldSpec.builder(boolean.class, "keyIndexed", PRIVATE).build())
+            .addField(FieldSpec.builder(int.class, "keyLookups", PRIVATE).build())
+            .addMethod(getMethod())
+            .addMethod(containsKeyMethod())
+            .addMethod(valueOffsetMethod())
+            .addMethod(scannedValueOffsetMethod())
+            .addMethod(indexedValueOffsetMethod())
+            .addMethod(indexKeysMethod())
+            .addMethod(equalKeysMethod())
+            .addMethod(hashKeyMethod());
+    }
+
+    private MethodSpec getMethod()
+    {
+        return methodBuilder("get")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(typeVarK, "key")
+            .returns(typeVarV)
+            .addStatement("final int valueOffset = valueOffset(key)")
+            .beginControlFlow("if (valueOffset == -1)")
+            .addStatement("return null")
+            .endControlFlow()
+            .addStatement("valueRO.wrap(buffer(), valueOffset, limit())")
+            .addStatement("return valueRO")
+            .build();
+    }
+
+    private MethodSpec containsKeyMethod()
+    {
+        return methodBuilder("containsKey")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(typeVarK, "key")
+            .returns(boolean.class)
+            .addStatement("return valueOffset(key) != -1")
+            .build();
+    }
+
+    private MethodSpec valueOffsetMethod()
+    {
+        return methodBuilder("valueOffset")
+            .addModifiers(PRIVATE)
+            .addParameter(flyweightType, "key")
+            .returns(int.class)
+            .addStatement("final int entries = fieldCount() >> 1")
+            .beginControlFlow("if (!keyIndexed && entries >= KEY_INDEX_MIN_ENTRIES && ++keyLookups == KEY_INDEX_LOOKUPS)")
+            .addStatement("indexKeys(entries)")
+            .endControlFlow()
+            .addStatement("return keyIndexed ? indexedValueOffset(key.buffer(), key.offset(), key.sizeof()) :\n" +
+                "scannedValueOffset(key.buffer(), key.offset(), key.sizeof())")
+            .build();
+    }
+
+    private MethodSpec scannedValueOffsetMethod()
+    {
+        return methodBuilder("scannedValueOffset")
+            .addModifiers(PRIVATE)
+            .addParameter(DIRECT_BUFFER_TYPE, "keyBuffer")
+            .addParameter(int.class, "keyOffset")
+            .addParameter(int.class, "keySize")
+            .returns(int.class)
+            .addStatement("final $T buffer = buffer()", DIRECT_BUFFER_TYPE)
+            .addStatement("final int limit = limit()")
+            .addStatement("final int fieldCount = fieldCount()")
+            .addStatement("int entryOffset = offset() + FIELDS_OFFSET")
+            .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
+            .addStatement("final int valueOffset = keyRO.wrap(buffer, entryOffset, limit).limit()")
+            .beginControlFlow("if (valueOffset - entryOffset == keySize && " +
+                "equalKeys(buffer, entryOffset, keyBuffer, keyOffset, keySize))")
+            .addStatement("return valueOffset")
+            .endControlFlow()
+            .addStatement("entryOffset = valueRO.wrap(buffer, valueOffset, limit).limit()")
+            .endControlFlow()
+            .addStatement("return -1")
+            .build();
+    }
+
+    private MethodSpec indexedValueOffsetMethod()
+    {
+        return methodBuilder("indexedValueOffset")
+            .addModifiers(PRIVATE)
+            .addParameter(DIRECT_BUFFER_TYPE, "keyBuffer")
+            .addParameter(int.class, "keyOffset")
+            .addParameter(int.class, "keySize")
+            .returns(int.class)
+            .addStatement("final $T buffer = buffer()", DIRECT_BUFFER_TYPE)
+            .addStatement("final int limit = limit()")
+            .addStatement("int slot = hashKey(keyBuffer, keyOffset, keySize) & keyIndexMask")
+            .beginControlFlow("for (int entryOffset = keyIndex[slot]; entryOffset != 0; entryOffset = keyIndex[slot])")
+            .addStatement("final int valueOffset = keyRO.wrap(buffer, entryOffset, limit).limit()")
+            .beginControlFlow("if (valueOffset - entryOffset == keySize && " +
+                "equalKeys(buffer, entryOffset, keyBuffer, keyOffset, keySize))")
+            .addStatement("return valueOffset")
+            .endControlFlow()
+            .addStatement("slot = (slot + 1) & keyIndexMask")
+            .endControlFlow()
+            .addStatement("return -1")
+            .build();
+    }
+
+    private MethodSpec indexKeysMethod()
+    {
+        return methodBuilder("indexKeys")
+            .addModifiers(PRIVATE)
+            .addParameter(int.class, "entries")
+            .addStatement("final int capacity = Integer.highestOneBit(entries * 2 - 1) << 1")
+            .beginControlFlow("if (keyIndex.length < capacity)")
+            .addStatement("keyIndex = new int[capacity]")
+            .endControlFlow()
+            .beginControlFlow("else")
+            .addStatement("$T.fill(keyIndex, 0, capacity, 0)", Arrays.class)
+            .endControlFlow()
+            .addStatement("keyIndexMask = capacity - 1")
+            .addStatement("final $T buffer = buffer()", DIRECT_BUFFER_TYPE)
+            .addStatement("final int limit = limit()")
+            .addStatement("int entryOffset = offset() + FIELDS_OFFSET")
+            .beginControlFlow("for (int i = 0; i < entries; i++)")
+            .addStatement("final int valueOffset = keyRO.wrap(buffer, entryOffset, limit).limit()")
+            .addStatement("int slot = hashKey(buffer, entryOffset, valueOffset - entryOffset) & keyIndexMask")
+            .beginControlFlow("while (keyIndex[slot] != 0)")
+            .addStatement("slot = (slot + 1) & keyIndexMask")
+            .endControlFlow()
+            .addStatement("keyIndex[slot] = entryOffset")
+            .addStatement("entryOffset = valueRO.wrap(buffer, valueOffset, limit).limit()")
+            .endControlFlow()
+            .addStatement("keyIndexed = true")
+            .build();
+    }
+
+    private MethodSpec equalKeysMethod()
+    {
+        return methodBuilder("equalKeys")
+            .addModifiers(PRIVATE, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(DIRECT_BUFFER_TYPE, "key")
+            .addParameter(int.class, "keyOffset")
+            .addParameter(int.class, "keySize")
+            .returns(boolean.class)
+            .addStatement("int index = 0")
+            .beginControlFlow("for (; index + Long.BYTES <= keySize; index += Long.BYTES)")
+            .beginControlFlow("if (buffer.getLong(offset + index) != key.getLong(keyOffset + index))")
+            .addStatement("return false")
+            .endControlFlow()
+            .endControlFlow()
+            .beginControlFlow("for (; index < keySize; index++)")
+            .beginControlFlow("if (buffer.getByte(offset + index) != key.getByte(keyOffset + index))")
+            .addStatement("return false")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return true")
+            .build();
+    }
+
+    private MethodSpec hashKeyMethod()
+    {
+        return methodBuilder("hashKey")
+            .addModifiers(PRIVATE, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "size")
+            .returns(int.class)
+            .addStatement("int hash = size")
+            .beginControlFlow("for (int index = 0; index < size; index++)")
+            .addStatement("hash = 31 * hash + buffer.getByte(offset + index)")
+            .endControlFlow()
+            .addStatement("return hash ^ (hash >>> 16)")
+            .build();
+    }
+}
@@ -62,6 +62,7 @@ public final class OctetsFlyweightGenerator extends ClassSpecGenerator
                 .addMethod(tryWrapMethod())
                 .addMethod(wrapMethod())
                 .addMethod(toStringMethod())
+                .addMethod(appendToMethod())
                 .addType(builderClassBuilder.build())
                 .build();
     }
@@ -149,7 +150,18 @@ public final class OctetsFlyweightGenerator extends ClassSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return String.format(\"octets[%d]\", sizeof())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .addStatement("return builder.append(\"octets[\").append(sizeof()).append(']')")
                 .build();
     }
 
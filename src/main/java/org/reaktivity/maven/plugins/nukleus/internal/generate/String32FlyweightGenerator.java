@@ -72,6 +72,7 @@ public final class String32FlyweightGenerator extends ClassSpecGenerator
                 .addMethod(tryWrapMethod())
                 .addMethod(wrapMethod())
                 .addMethod(toStringMethod())
+                .addMethod(appendToMethod())
                 .addMethod(lengthMethod())
                 .addType(builderClassBuilder.build())
                 .build();
@@ -258,7 +259,21 @@ public final class String32FlyweightGenerator extends ClassSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return maxLimit() == offset() ? \"null\" : String.format(\"\\\"%s\\\"\", asString())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .beginControlFlow("if (maxLimit() == offset())")
+                .addStatement("return builder.append(\"null\")")
+                .endControlFlow()
+                .addStatement("return appendStringTo(builder.append('\"')).append('\"')")
                 .build();
     }
 
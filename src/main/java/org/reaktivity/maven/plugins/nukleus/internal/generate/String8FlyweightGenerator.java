@@ -67,6 +67,7 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
             .addMethod(wrapMethod())
             .addMethod(valueMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addMethod(lengthMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -214,7 +215,18 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return String.format(\"\\\"%s\\\"\", asString())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .addStatement("return appendStringTo(builder.append('\"')).append('\"')")
                 .build();
     }
 
@@ -19,6 +19,8 @@ import static com.squareup.javapoet.MethodSpec.constructorBuilder;
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static com.squareup.javapoet.TypeSpec.classBuilder;
 import static javax.lang.model.element.Modifier.ABSTRACT;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 import static org.reaktivity.maven.plugins.nukleus.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
@@ -26,6 +28,7 @@ import static org.reaktivity.maven.plugins.nukleus.internal.generate.TypeNames.D
 import java.nio.charset.Charset;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
@@ -35,6 +38,7 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
 {
     private final TypeSpec.Builder classBuilder;
     private final BuilderClassBuilder builderClassBuilder;
+    private final ClassName asciiSequenceType;
 
     public StringFlyweightGenerator(
         ClassName flyweightType)
@@ -43,19 +47,32 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
 
         this.classBuilder = classBuilder(thisName).superclass(flyweightType).addModifiers(PUBLIC, ABSTRACT);
         this.builderClassBuilder = new BuilderClassBuilder(thisName, flyweightType);
+        this.asciiSequenceType = thisName.nestedClass("AsciiSequence");
     }
 
     @Override
     public TypeSpec generate()
     {
         return classBuilder
+            .addField(asciiRO())
             .addMethod(fieldSizeLengthMethod())
             .addMethod(asStringMethod())
             .addMethod(lengthMethod())
+            .addMethod(appendStringToMethod())
+            .addMethod(asCharSequenceMethod())
+            .addMethod(equalsAsciiMethod())
+            .addMethod(startsWithMethod())
+            .addMethod(regionMatchesMethod())
+            .addType(asciiSequenceType())
             .addType(builderClassBuilder.build())
             .build();
     }
 
+    private FieldSpec asciiRO()
+    {
+        return FieldSpec.builder(asciiSequenceType, "asciiRO", PRIVATE).build();
+    }
+
     private MethodSpec fieldSizeLengthMethod()
     {
         return methodBuilder("fieldSizeLength")
@@ -80,6 +97,144 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec appendStringToMethod()
+    {
+        return methodBuilder("appendStringTo")
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .beginControlFlow("if (maxLimit() == offset() || length() == -1)")
+            .addStatement("return builder.append((String) null)")
+            .endControlFlow()
+            .addStatement("final $T buffer = buffer()", DIRECT_BUFFER_TYPE)
+            .addStatement("final int mark = builder.length()")
+            .addStatement("final int valueOffset = offset() + fieldSizeLength()")
+            .addStatement("final int valueLimit = valueOffset + length()")
+            .beginControlFlow("for (int index = valueOffset; index < valueLimit; index++)")
+            .addStatement("final byte ch = buffer.getByte(index)")
+            .beginControlFlow("if (ch < 0)")
+            .addStatement("builder.setLength(mark)")
+            .addStatement("return builder.append(asString())")
+            .endControlFlow()
+            .addStatement("builder.append((char) ch)")
+            .endControlFlow()
+            .addStatement("return builder")
+            .build();
+    }
+
+    private MethodSpec asCharSequenceMethod()
+    {
+        return methodBuilder("asCharSequence")
+            .addModifiers(PUBLIC)
+            .returns(CharSequence.class)
+            .beginControlFlow("if (maxLimit() == offset() || length() == -1)")
+            .addStatement("return null")
+            .endControlFlow()
+            .beginControlFlow("if (asciiRO == null)")
+            .addStatement("asciiRO = new $T()", asciiSequenceType)
+            .endControlFlow()
+            .addStatement("return asciiRO.wrap(buffer(), offset() + fieldSizeLength(), length())")
+            .build();
+    }
+
+    private MethodSpec equalsAsciiMethod()
+    {
+        return methodBuilder("equalsAscii")
+            .addModifiers(PUBLIC)
+            .returns(boolean.class)
+            .addParameter(byte[].class, "value")
+            .addStatement("return regionMatches(0, value, 0, value.length) && length() == value.length")
+            .build();
+    }
+
+    private MethodSpec startsWithMethod()
+    {
+        return methodBuilder("startsWith")
+            .addModifiers(PUBLIC)
+            .returns(boolean.class)
+            .addParameter(byte[].class, "prefix")
+            .addStatement("return regionMatches(0, prefix, 0, prefix.length)")
+            .build();
+    }
+
+    private MethodSpec regionMatchesMethod()
+    {
+        return methodBuilder("regionMatches")
+            .addModifiers(PUBLIC)
+            .returns(boolean.class)
+            .addParameter(int.class, "index")
+            .addParameter(byte[].class, "value")
+            .addParameter(int.class, "valueOffset")
+            .addParameter(int.class, "length")
+            .beginControlFlow("if (maxLimit() == offset() || index < 0 || valueOffset < 0 || length < 0 ||\n" +
+                "valueOffset > value.length - length || index > length() - length)")
+            .addStatement("return false")
+            .endControlFlow()
+            .addStatement("final $T buffer = buffer()", DIRECT_BUFFER_TYPE)
+            .addStatement("final int regionOffset = offset() + fieldSizeLength() + index")
+            .beginControlFlow("for (int i = 0; i < length; i++)")
+            .beginControlFlow("if (buffer.getByte(regionOffset + i) != value[valueOffset + i])")
+            .addStatement("return false")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return true")
+            .build();
+    }
+
+    private TypeSpec asciiSequenceType()
+    {
+        return classBuilder(asciiSequenceType)
+            .addModifiers(PUBLIC, STATIC, FINAL)
+            .addSuperinterface(CharSequence.class)
+            .addField(DIRECT_BUFFER_TYPE, "buffer", PRIVATE)
+            .addField(int.class, "offset", PRIVATE)
+            .addField(int.class, "length", PRIVATE)
+            .addMethod(methodBuilder("wrap")
+                .returns(asciiSequenceType)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "length")
+                .addStatement("this.buffer = buffer")
+                .addStatement("this.offset = offset")
+                .addStatement("this.length = length")
+                .addStatement("return this")
+                .build())
+            .addMethod(methodBuilder("length")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(int.class)
+                .addStatement("return length")
+                .build())
+            .addMethod(methodBuilder("charAt")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(char.class)
+                .addParameter(int.class, "index")
+                .beginControlFlow("if (index < 0 || index >= length)")
+                .addStatement("throw new IndexOutOfBoundsException(\"index=\" + index + \" length=\" + length)")
+                .endControlFlow()
+                .addStatement("return (char) (buffer.getByte(offset + index) & 0xff)")
+                .build())
+            .addMethod(methodBuilder("subSequence")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(CharSequence.class)
+                .addParameter(int.class, "start")
+                .addParameter(int.class, "end")
+                .beginControlFlow("if (start < 0 || end > length || start > end)")
+                .addStatement("throw new IndexOutOfBoundsException(\"start=\" + start + \" end=\" + end)")
+                .endControlFlow()
+                .addStatement("return new $T().wrap(buffer, offset + start, end - start)", asciiSequenceType)
+                .build())
+            .addMethod(methodBuilder("toString")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(String.class)
+                .addStatement("return buffer.getStringWithoutLengthAscii(offset, length)")
+                .build())
+            .build();
+    }
+
     private static final class BuilderClassBuilder
     {
         private final ClassName stringType;
@@ -56,6 +56,7 @@ import org.reaktivity.maven.plugins.nukleus.internal.ast.AstNamedNode;
 import org.reaktivity.maven.plugins.nukleus.internal.ast.AstNamedNode.Kind;
 import org.reaktivity.maven.plugins.nukleus.internal.ast.AstType;
 
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
@@ -104,7 +105,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
     private final TryWrapMethodGenerator tryWrapMethod;
     private final WrapMethodGenerator wrapMethod;
     private final LimitMethodGenerator limitMethod;
-    private final ToStringMethodGenerator toStringMethod;
+    private final AppendToMethodGenerator appendToMethod;
     private final BuilderClassGenerator builderClass;
 
     public StructFlyweightGenerator(
@@ -125,7 +126,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         this.tryWrapMethod = new TryWrapMethodGenerator(structName);
         this.wrapMethod = new WrapMethodGenerator(structName);
         this.limitMethod = new LimitMethodGenerator();
-        this.toStringMethod = new ToStringMethodGenerator();
+        this.appendToMethod = new AppendToMethodGenerator();
         this.builderClass = new BuilderClassGenerator(structName, flyweightName, resolver);
     }
 
@@ -151,12 +152,12 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
     {
         memberOffsetConstant.addMember(name, typeName, unsignedTypeName, size, sizeName);
         memberSizeConstant.addMember(name, type, typeName, unsignedType, unsignedTypeName, size);
-        memberField.addMember(name, typeName, unsignedTypeName, size, sizeName, byteOrder, defaultValue);
+        memberField.addMember(name, type, typeName, unsignedTypeName, size, sizeName, byteOrder, defaultValue);
         memberAccessor.addMember(name, type, typeName, unsignedType, unsignedTypeName, byteOrder, size, sizeName, defaultValue);
         limitMethod.addMember(name, typeName, unsignedTypeName, size, sizeName);
         tryWrapMethod.addMember(name, type, typeName, unsignedType, unsignedTypeName, size, sizeName, defaultValue);
         wrapMethod.addMember(name, type, typeName, unsignedTypeName, size, sizeName, defaultValue);
-        toStringMethod.addMember(name, typeName, unsignedTypeName, size, sizeName);
+        appendToMethod.addMember(name, typeName, unsignedTypeName, size, sizeName);
         builderClass.addMember(name, type, typeName, unsignedType, unsignedTypeName, size, sizeName, sizeTypeName,
                 usedAsSize, defaultValue, byteOrder);
 
@@ -175,7 +176,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         return builder.addMethod(wrapMethod.generate())
                       .addMethod(tryWrapMethod.generate())
                       .addMethod(limitMethod.generate())
-                      .addMethod(toStringMethod.generate())
+                      .addMethod(toStringMethod())
+                      .addMethod(appendToMethod.generate())
                       .addType(builderClass.generate())
                       .build();
     }
@@ -311,6 +313,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
 
         public MemberFieldGenerator addMember(
             String name,
+            AstType memberType,
             TypeName type,
             TypeName unsignedType,
             int size,
@@ -324,13 +327,14 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             }
             else if (size != -1 || sizeName != null)
             {
-                addIntegerArrayMember(name, type, unsignedType, sizeName != null);
+                addIntegerArrayMember(name, memberType, type, unsignedType, sizeName != null);
             }
             return this;
         }
 
         private void addIntegerArrayMember(
             String name,
+            AstType memberType,
             TypeName type,
             TypeName unsignedType,
             boolean variableLength)
@@ -340,8 +344,15 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 builder.addField(TypeName.INT, dynamicLimit(name), PRIVATE);
             }
             ClassName iteratorClass = iteratorClass(thisType, type, unsignedType);
-            builder.addField(iteratorClass, iterator(name), PRIVATE);
             TypeName generateType = (unsignedType != null) ? unsignedType : type;
+            TypeName targetType = generateType == TypeName.LONG ? generateType : TypeName.INT;
+            CodeBlock.Builder initializer = CodeBlock.builder()
+                .add("new $T($S, $L, o -> ", iteratorClass, name, size(name));
+            addBufferGet(initializer, targetType, memberType, type, unsignedType, "o");
+            initializer.add(")");
+            builder.addField(FieldSpec.builder(iteratorClass, iterator(name), PRIVATE, FINAL)
+                .initializer(initializer.build())
+                .build());
             if (generateType == TypeName.LONG)
             {
                 generateLongPrimitiveIterator = true;
@@ -387,6 +398,10 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             }
 
             builder.addField(fieldBuilder.build());
+            if (!TypeNames.DIRECT_BUFFER_TYPE.equals(type))
+            {
+                builder.addField(TypeName.INT, dynamicLimit(name), PRIVATE);
+            }
             return this;
         }
 
@@ -395,102 +410,70 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         {
             if (generateIntPrimitiveIterator)
             {
-                generateIntPrimitiveIteratorInnerClass();
+                generatePrimitiveIteratorInnerClass("IntPrimitiveIterator", INT_ITERATOR_CLASS_NAME, TypeName.INT,
+                    IntUnaryOperator.class, "applyAsInt", "nextInt");
             }
             if (generateLongPrimitiveIterator)
             {
-                generateLongPrimitiveIteratorInnerClass();
+                generatePrimitiveIteratorInnerClass("LongPrimitiveIterator", LONG_ITERATOR_CLASS_NAME, TypeName.LONG,
+                    IntToLongFunction.class, "applyAsLong", "nextLong");
             }
             return super.build();
         }
 
-        private void generateIntPrimitiveIteratorInnerClass()
+        private void generatePrimitiveIteratorInnerClass(
+            String simpleName,
+            ClassName iteratorInterface,
+            TypeName valueType,
+            Class<?> accessorType,
+            String applyName,
+            String nextName)
         {
-            ClassName intIterator = thisType.nestedClass("IntPrimitiveIterator");
-            TypeSpec.Builder builder = classBuilder(intIterator.simpleName())
-                    .addModifiers(PRIVATE, FINAL)
-                    .addSuperinterface(INT_ITERATOR_CLASS_NAME);
+            ClassName iteratorClass = thisType.nestedClass(simpleName);
+            TypeSpec.Builder builder = classBuilder(iteratorClass.simpleName())
+                    .addModifiers(PUBLIC, FINAL)
+                    .addSuperinterface(iteratorInterface);
             builder.addField(String.class, "fieldName", PRIVATE, FINAL);
-            builder.addField(int.class, "offset", PRIVATE, FINAL);
             builder.addField(int.class, "fieldSize", PRIVATE, FINAL);
-            builder.addField(int.class, "count", PRIVATE, FINAL);
-            builder.addField(IntUnaryOperator.class, "accessor", PRIVATE, FINAL);
+            builder.addField(accessorType, "accessor", PRIVATE, FINAL);
+            builder.addField(int.class, "offset", PRIVATE);
+            builder.addField(int.class, "count", PRIVATE);
             builder.addField(int.class, "index", PRIVATE);
 
             builder.addMethod(constructorBuilder()
                     .addParameter(String.class, "fieldName")
-                    .addParameter(int.class, "offset")
                     .addParameter(int.class, "fieldSize")
-                    .addParameter(int.class, "count")
-                    .addParameter(IntUnaryOperator.class, "accessor")
+                    .addParameter(accessorType, "accessor")
                     .addStatement("this.fieldName = fieldName")
-                    .addStatement("this.offset = offset")
                     .addStatement("this.fieldSize = fieldSize")
-                    .addStatement("this.count = count")
                     .addStatement("this.accessor = accessor")
                     .build());
 
-            builder.addMethod(MethodSpec.methodBuilder("hasNext")
-                    .addAnnotation(Override.class)
+            builder.addMethod(MethodSpec.methodBuilder("count")
                     .addModifiers(PUBLIC)
-                    .returns(boolean.class)
-                    .addStatement("return index < count")
+                    .returns(int.class)
+                    .addStatement("return count")
                     .build());
 
-            builder.addMethod(MethodSpec.methodBuilder("nextInt")
-                    .addAnnotation(Override.class)
+            builder.addMethod(MethodSpec.methodBuilder("get")
                     .addModifiers(PUBLIC)
-                    .returns(int.class)
-                    .beginControlFlow("if (!hasNext())")
-                    .addStatement("throw new $T(fieldName + \": \" + index)", NoSuchElementException.class)
+                    .returns(valueType)
+                    .addParameter(int.class, "index")
+                    .beginControlFlow("if (index < 0 || index >= count)")
+                    .addStatement("throw new $T(fieldName + \": \" + index)", IndexOutOfBoundsException.class)
                     .endControlFlow()
-                    .addStatement("return accessor.applyAsInt(offset + fieldSize * index++)")
+                    .addStatement("return accessor.$L(offset + fieldSize * index)", applyName)
                     .build());
 
-            builder.addMethod(MethodSpec.methodBuilder("toString")
-                            .addAnnotation(Override.class)
-                            .addModifiers(PUBLIC)
-                            .returns(String.class)
-                            .addStatement("StringBuffer result = new StringBuffer().append($S)", "[")
-                            .addStatement("boolean first = true")
-                            .beginControlFlow("while(hasNext())")
-                            .beginControlFlow("if (!first)")
-                            .addStatement("result.append($S)", ", ")
-                            .endControlFlow()
-                            .addStatement("result.append(nextInt())")
-                            .addStatement("first = false")
-                            .endControlFlow()
-                            .addStatement("result.append($S)", "]")
-                            .addStatement("return result.toString()")
-                            .build());
-
-            MemberFieldGenerator.this.builder.addType(builder.build());
-        }
-
-        private void generateLongPrimitiveIteratorInnerClass()
-        {
-            ClassName longIterator = thisType.nestedClass("LongPrimitiveIterator");
-            TypeSpec.Builder builder = classBuilder(longIterator.simpleName())
-                    .addModifiers(PRIVATE, FINAL)
-                    .addSuperinterface(LONG_ITERATOR_CLASS_NAME);
-            builder.addField(String.class, "fieldName", PRIVATE, FINAL);
-            builder.addField(int.class, "offset", PRIVATE, FINAL);
-            builder.addField(int.class, "fieldSize", PRIVATE, FINAL);
-            builder.addField(int.class, "count", PRIVATE, FINAL);
-            builder.addField(IntToLongFunction.class, "accessor", PRIVATE, FINAL);
-            builder.addField(int.class, "index", PRIVATE);
-
-            builder.addMethod(constructorBuilder()
-                    .addParameter(String.class, "fieldName")
-                    .addParameter(int.class, "offset")
-                    .addParameter(int.class, "fieldSize")
-                    .addParameter(int.class, "count")
-                    .addParameter(IntToLongFunction.class, "accessor")
-                    .addStatement("this.fieldName = fieldName")
-                    .addStatement("this.offset = offset")
-                    .addStatement("this.fieldSize = fieldSize")
-                    .addStatement("this.count = count")
-                    .addStatement("this.accessor = accessor")
+            builder.addMethod(MethodSpec.methodBuilder("copyTo")
+                    .addModifiers(PUBLIC)
+                    .returns(int.class)
+                    .addParameter(ArrayTypeName.of(valueType), "values")
+                    .addParameter(int.class, "valuesOffset")
+                    .beginControlFlow("for (int i = 0; i < count; i++)")
+                    .addStatement("values[valuesOffset + i] = accessor.$L(offset + fieldSize * i)", applyName)
+                    .endControlFlow()
+                    .addStatement("return count")
                     .build());
 
             builder.addMethod(MethodSpec.methodBuilder("hasNext")
@@ -500,33 +483,41 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     .addStatement("return index < count")
                     .build());
 
-            builder.addMethod(MethodSpec.methodBuilder("nextLong")
+            builder.addMethod(MethodSpec.methodBuilder(nextName)
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
-                    .returns(long.class)
+                    .returns(valueType)
                     .beginControlFlow("if (!hasNext())")
                     .addStatement("throw new $T(fieldName + \": \" + index)", NoSuchElementException.class)
                     .endControlFlow()
-                    .addStatement("return accessor.applyAsLong(offset + fieldSize * index++)")
+                    .addStatement("return accessor.$L(offset + fieldSize * index++)", applyName)
                     .build());
 
             builder.addMethod(MethodSpec.methodBuilder("toString")
                             .addAnnotation(Override.class)
                             .addModifiers(PUBLIC)
                             .returns(String.class)
-                            .addStatement("StringBuffer result = new StringBuffer().append($S)", "[")
-                            .addStatement("boolean first = true")
-                            .beginControlFlow("while(hasNext())")
-                            .beginControlFlow("if (!first)")
+                            .addStatement("StringBuilder result = new StringBuilder().append($S)", "[")
+                            .beginControlFlow("for (int i = 0; i < count; i++)")
+                            .beginControlFlow("if (i != 0)")
                             .addStatement("result.append($S)", ", ")
                             .endControlFlow()
-                            .addStatement("result.append(nextLong())")
-                            .addStatement("first = false")
+                            .addStatement("result.append(accessor.$L(offset + fieldSize * i))", applyName)
                             .endControlFlow()
                             .addStatement("result.append($S)", "]")
                             .addStatement("return result.toString()")
                             .build());
 
+            builder.addMethod(MethodSpec.methodBuilder("wrap")
+                    .returns(iteratorClass)
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "count")
+                    .addStatement("this.offset = offset")
+                    .addStatement("this.count = count")
+                    .addStatement("this.index = 0")
+                    .addStatement("return this")
+                    .build());
+
             MemberFieldGenerator.this.builder.addType(builder.build());
         }
     }
@@ -578,21 +569,20 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             AstByteOrder byteOrder,
             String sizeName)
         {
-            TypeName generateType = (unsignedType != null) ? unsignedType : type;
-            generateType = generateType == TypeName.LONG ? LONG_ITERATOR_CLASS_NAME
-                    : INT_ITERATOR_CLASS_NAME;
-            builder.addMethod(methodBuilder(methodName(name))
+            MethodSpec.Builder accessor = methodBuilder(methodName(name))
                     .addModifiers(PUBLIC)
-                    .returns(generateType)
-                    .beginControlFlow("if ($L != null)", iterator(name))
-                    .addStatement("$L.index = 0", iterator(name))
-                    .endControlFlow()
-                    .addStatement("return $L",  iterator(name))
-                    .build());
+                    .returns(iteratorClass(thisType, type, unsignedType));
             if (sizeName != null)
             {
+                accessor.beginControlFlow("if ($L.count == -1)", iterator(name))
+                    .addStatement("return null")
+                    .endControlFlow();
                 anchorLimit = dynamicLimit(name);
             }
+            builder.addMethod(accessor
+                    .addStatement("$L.index = 0", iterator(name))
+                    .addStatement("return $L",  iterator(name))
+                    .build());
         }
 
         private void addNonPrimitiveMember(
@@ -646,7 +636,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 codeBlock.addStatement("return $LRO", name);
             }
 
-            anchorLimit = name + "RO." + (DIRECT_BUFFER_TYPE.equals(type) ? "capacity()" : "limit()");
+            anchorLimit = DIRECT_BUFFER_TYPE.equals(type) ? name + "RO.capacity()" : dynamicLimit(name);
 
             builder.addMethod(methodBuilder(methodName(name))
                     .addModifiers(PUBLIC)
@@ -819,13 +809,9 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     {
                         code.add("return $L().capacity()", methodName(anchorName));
                     }
-                    else if (anchorType.isPrimitive()) // variable length array
-                    {
-                        code.add("return $L", dynamicLimit(anchorName));
-                    }
                     else
                     {
-                        code.add("return $LRO.limit()", anchorName);
+                        code.add("return $L", dynamicLimit(anchorName));
                     }
                 }
                 else
@@ -912,26 +898,19 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             }
             else if (size != -1)
             {
-                addFixedIntegerArrayMember(name, type, typeName, unsignedType, unsignedTypeName, size);
+                addFixedIntegerArrayMember(name, size);
             }
             else if (sizeName != null)
             {
-                addVariableIntegerArrayMember(name, type, typeName, unsignedType, unsignedTypeName, sizeName);
+                addVariableIntegerArrayMember(name, sizeName);
             }
             return this;
         }
 
         private void addFixedIntegerArrayMember(
             String name,
-            AstType type,
-            TypeName typeName,
-            AstType unsignedType,
-            TypeName unsignedTypeName,
             int size)
         {
-            ClassName iteratorClass = iteratorClass(thisType, typeName, unsignedTypeName);
-            TypeName targetTypeName = (unsignedTypeName != null) ? unsignedTypeName : typeName;
-            targetTypeName = targetTypeName == TypeName.LONG ? targetTypeName : TypeName.INT;
             CodeBlock.Builder code = CodeBlock.builder();
             String offsetName;
             if (anchorLimit != null)
@@ -943,29 +922,16 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 offsetName = "offset + " + offset(name);
             }
-            code.add("$[")
-                .add("$L = new $T($S, $L, $L, $L, o -> ",
-                        iterator(name), iteratorClass, name, offsetName, size(name), arraySize(name));
-            addBufferGet(code, targetTypeName, type, typeName, unsignedTypeName, "o");
-            code.add(")")
-                .add(";\n$]");
-
+            code.addStatement("$L.wrap($L, $L)", iterator(name), offsetName, arraySize(name));
             builder.addCode(code.build());
         }
 
         private void addVariableIntegerArrayMember(
             String name,
-            AstType type,
-            TypeName typeName,
-            AstType unsignedType,
-            TypeName unsignedTypeName,
             String sizeName)
         {
-            ClassName iteratorClass = iteratorClass(thisType, typeName, unsignedTypeName);
             String offsetName = "offset" + initCap(name);
             String limitName = "limit" + initCap(name);
-            TypeName targetType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
-            targetType = targetType == TypeName.LONG ? targetType : TypeName.INT;
             CodeBlock.Builder code = CodeBlock.builder();
             if (anchorLimit != null)
             {
@@ -975,13 +941,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 code.addStatement("final int $L = offset + $L", offsetName, offset(name));
             }
-            code.add("$[")
-                .add("$L = $L() == -1 ? null :\n", iterator(name), methodName(sizeName))
-                .add("new $T($S, $L, $L, (int) $L(), o -> ",
-                    iteratorClass, name, offsetName, size(name), methodName(sizeName));
-            addBufferGet(code, targetType, type, typeName, unsignedTypeName, "o");
-            code.add(")")
-                .add(";\n$]")
+            code.addStatement("$L.wrap($L, (int) $L())", iterator(name), offsetName, methodName(sizeName))
                 .addStatement("$L = $L() == -1 ? $L : $L + $L * $L()", limitName, methodName(sizeName),
                         offsetName, offsetName, size(name), methodName(sizeName));
             builder.addCode(code.build());
@@ -1062,84 +1022,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                             name, offset(name));
                 }
             }
-            anchorLimit = name + "RO.limit()";
-        }
-
-        private void addBufferGet(
-            CodeBlock.Builder codeBlock,
-            TypeName targetTypeName,
-            AstType type,
-            TypeName typeName,
-            TypeName unsignedTypeName,
-            String offset)
-        {
-            if (type.bits() == 24)
-            {
-                if (type.isUnsignedInt())
-                {
-                    codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
-                             .add("(buffer().getByte($L) & 0xff) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L + 2) & 0xff)", offset)
-                             .add(" : ")
-                             .add("(buffer().getByte($L + 2) & 0xff) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L) & 0xff)", offset);
-                }
-                else
-                {
-                    codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
-                             .add("buffer().getByte($L) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L + 2) & 0xff)", offset)
-                             .add(" : ")
-                             .add("buffer().getByte($L + 2) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L) & 0xff)", offset);
-                }
-            }
-            else
-            {
-                String getterName = GETTER_NAMES.get(typeName);
-                if (getterName == null)
-                {
-                    throw new IllegalStateException("member type not supported: " + typeName);
-                }
-                if (targetTypeName != typeName)
-                {
-                    codeBlock.add("($T)(", targetTypeName);
-                }
-
-                codeBlock.add("buffer().$L($L", getterName, offset);
-
-                if (targetTypeName != typeName  && unsignedTypeName != null)
-                {
-                    if (typeName == TypeName.BYTE)
-                    {
-                        codeBlock.add(") & 0xFF)");
-                    }
-                    else if (typeName == TypeName.SHORT)
-                    {
-                        codeBlock.add(") & 0xFFFF)", ByteOrder.class);
-                    }
-                    else if (typeName == TypeName.INT)
-                    {
-                        codeBlock.add(") & 0xFFFF_FFFFL)", ByteOrder.class);
-                    }
-                    else
-                    {
-                        codeBlock.add(")");
-                    }
-                }
-                else
-                {
-                    codeBlock.add(")");
-                }
-                if (targetTypeName != typeName && unsignedTypeName == null)
-                {
-                    codeBlock.add(")");
-                }
-            }
+            builder.addStatement("$L = $LRO.limit()", dynamicLimit(name), name);
+            anchorLimit = dynamicLimit(name);
         }
 
         @Override
@@ -1192,25 +1076,19 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             }
             else if (size != -1)
             {
-                addFixedIntegerArrayMember(name, type, typeName, unsignedTypeName, size);
+                addFixedIntegerArrayMember(name, size);
             }
             else if (sizeName != null)
             {
-                addVariableIntegerArrayMember(name, type, typeName, unsignedTypeName, sizeName);
+                addVariableIntegerArrayMember(name, sizeName);
             }
             return this;
         }
 
         private void addFixedIntegerArrayMember(
             String name,
-            AstType type,
-            TypeName typeName,
-            TypeName unsignedTypeName,
             int size)
         {
-            ClassName iteratorClass = iteratorClass(thisType, typeName, unsignedTypeName);
-            TypeName targetType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
-            targetType = targetType == TypeName.LONG ? targetType : TypeName.INT;
             CodeBlock.Builder code = CodeBlock.builder();
             String offsetName;
             if (anchorLimit != null)
@@ -1222,27 +1100,16 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 offsetName = "offset + " + offset(name);
             }
-            code.add("$[")
-                .add("$L = new $T($S, $L, $L, $L, o -> ",
-                        iterator(name), iteratorClass, name, offsetName, size(name), arraySize(name));
-            addBufferGet(code, targetType, type, typeName, unsignedTypeName, "o");
-            code.add(")")
-                .add(";\n$]");
+            code.addStatement("$L.wrap($L, $L)", iterator(name), offsetName, arraySize(name));
             builder.addCode(code.build());
         }
 
         private void addVariableIntegerArrayMember(
             String name,
-            AstType type,
-            TypeName typeName,
-            TypeName unsignedTypeName,
             String sizeName)
         {
-            ClassName iteratorClass = iteratorClass(thisType, typeName, unsignedTypeName);
             String offsetName = "offset" + initCap(name);
             String limitName = "limit" + initCap(name);
-            TypeName targetType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
-            targetType = targetType == TypeName.LONG ? targetType : TypeName.INT;
             CodeBlock.Builder code = CodeBlock.builder();
             if (anchorLimit != null)
             {
@@ -1252,13 +1119,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 code.addStatement("final int $L = offset + $L", offsetName, offset(name));
             }
-            code.add("$[")
-                .add("$L = $L() == -1 ? null :\n", iterator(name), methodName(sizeName))
-                .add("new $T($S, $L, $L, (int) $L(), o -> ",
-                    iteratorClass, name, offsetName, size(name), methodName(sizeName));
-            addBufferGet(code, targetType, type, typeName, unsignedTypeName, "o");
-            code.add(")")
-                .add(";\n$]")
+            code.addStatement("$L.wrap($L, (int) $L())", iterator(name), offsetName, methodName(sizeName))
                 .addStatement("$L = $L() == -1 ? $L : $L + $L * $L()", limitName, methodName(sizeName),
                         offsetName, offsetName, size(name), methodName(sizeName));
             builder.addCode(code.build());
@@ -1329,84 +1190,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                             name, offset(name));
                 }
             }
-            anchorLimit = name + "RO.limit()";
-        }
-
-        private void addBufferGet(
-            CodeBlock.Builder codeBlock,
-            TypeName targetType,
-            AstType type,
-            TypeName typeName,
-            TypeName unsignedTypeName,
-            String offset)
-        {
-            if (type.bits() == 24)
-            {
-                if (type.isUnsignedInt())
-                {
-                    codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
-                             .add("(buffer().getByte($L) & 0xff) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L + 2) & 0xff)", offset)
-                             .add(" : ")
-                             .add("(buffer().getByte($L + 2) & 0xff) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L) & 0xff)", offset);
-                }
-                else
-                {
-                    codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
-                             .add("buffer().getByte($L) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L + 2) & 0xff)", offset)
-                             .add(" : ")
-                             .add("buffer().getByte($L + 2) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L) & 0xff)", offset);
-                }
-            }
-            else
-            {
-                String getterName = GETTER_NAMES.get(typeName);
-                if (getterName == null)
-                {
-                    throw new IllegalStateException("member type not supported: " + typeName);
-                }
-                if (targetType != typeName)
-                {
-                    codeBlock.add("($T)(", targetType);
-                }
-
-                codeBlock.add("buffer().$L($L", getterName, offset);
-
-                if (targetType != typeName  && unsignedTypeName != null)
-                {
-                    if (typeName == TypeName.BYTE)
-                    {
-                        codeBlock.add(") & 0xFF)");
-                    }
-                    else if (typeName == TypeName.SHORT)
-                    {
-                        codeBlock.add(") & 0xFFFF)", ByteOrder.class);
-                    }
-                    else if (typeName == TypeName.INT)
-                    {
-                        codeBlock.add(") & 0xFFFF_FFFFL)", ByteOrder.class);
-                    }
-                    else
-                    {
-                        codeBlock.add(")");
-                    }
-                }
-                else
-                {
-                    codeBlock.add(")");
-                }
-                if (targetType != typeName && unsignedTypeName == null)
-                {
-                    codeBlock.add(")");
-                }
-            }
+            builder.addStatement("$L = $LRO.limit()", dynamicLimit(name), name);
+            anchorLimit = dynamicLimit(name);
         }
 
         @Override
@@ -1418,20 +1203,30 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
-    private final class ToStringMethodGenerator extends MethodSpecGenerator
+    private MethodSpec toStringMethod()
     {
-        private final List<String> formats = new LinkedList<>();
-        private final List<String> args = new LinkedList<>();
+        return methodBuilder("toString")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(String.class)
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
 
-        private ToStringMethodGenerator()
+    private final class AppendToMethodGenerator extends MethodSpecGenerator
+    {
+        private final List<CodeBlock> appends = new LinkedList<>();
+
+        private AppendToMethodGenerator()
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
-                    .returns(String.class));
+                    .returns(StringBuilder.class)
+                    .addParameter(StringBuilder.class, "builder"));
         }
 
-        public ToStringMethodGenerator addMember(
+        public AppendToMethodGenerator addMember(
             String name,
             TypeName type,
             TypeName unsignedType,
@@ -1439,14 +1234,18 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             String sizeName)
         {
             boolean isArray = size != -1 || sizeName != null;
-            formats.add(String.format("%s=%%%s", name, type.isPrimitive() && !isArray ? "d" : "s"));
+            String label = String.format("%s%s=", appends.isEmpty() ? String.format("%s [", constant(baseName)) : ", ", name);
             if (type instanceof ClassName && isStringType((ClassName) type))
             {
-                args.add(String.format("%sRO.asString()", name));
+                appends.add(CodeBlock.of("$LRO.appendStringTo(builder.append($S))", name, label));
+            }
+            else if (type.isPrimitive() || isArray || DIRECT_BUFFER_TYPE.equals(type))
+            {
+                appends.add(CodeBlock.of("builder.append($S).append($L())", label, name));
             }
             else
             {
-                args.add(String.format("%s()", name));
+                appends.add(CodeBlock.of("$LRO.appendTo(builder.append($S))", name, label));
             }
             return this;
         }
@@ -1455,14 +1254,14 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         public MethodSpec generate()
         {
             String typeName = constant(baseName);
-            if (formats.isEmpty())
+            if (appends.isEmpty())
             {
-                builder.addStatement("return $S", typeName);
+                builder.addStatement("return builder.append($S)", typeName);
             }
             else
             {
-                String format = String.format("%s [%s]", typeName, String.join(", ", formats));
-                builder.addStatement("return String.format($S, $L)", format, String.join(", ", args));
+                appends.forEach(append -> builder.addStatement("$L", append));
+                builder.addStatement("return builder.append(']')");
             }
             return builder.build();
         }
@@ -1803,6 +1602,21 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                             FieldSpec.builder(generateType, defaultName(name), PUBLIC, STATIC, FINAL)
                                 .initializer(Objects.toString(defaultValueToSet))
                                 .build());
+                        if (isStringType(typeName) && defaultValueToSet != null)
+                        {
+                            String bytesName = String.format("%s_BYTES", defaultName(name));
+                            builder.addField(
+                                FieldSpec.builder(byte[].class, bytesName, PRIVATE, STATIC, FINAL)
+                                    .initializer("$L.getBytes($T.UTF_8)", defaultName(name), StandardCharsets.class)
+                                    .build());
+                            builder.addMethod(methodBuilder(String.format("matchesDefault%s%s",
+                                    Character.toUpperCase(name.charAt(0)), name.substring(1)))
+                                .addModifiers(PUBLIC, STATIC)
+                                .addParameter(((ClassName) typeName).peerClass("StringFW"), "value")
+                                .returns(boolean.class)
+                                .addStatement("return value.equalsAscii($L)", bytesName)
+                                .build());
+                        }
                     }
                 }
                 return this;
@@ -3488,6 +3302,83 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         return "limit" + initCap(fieldName);
     }
 
+    private static void addBufferGet(
+        CodeBlock.Builder codeBlock,
+        TypeName targetTypeName,
+        AstType type,
+        TypeName typeName,
+        TypeName unsignedTypeName,
+        String offset)
+    {
+        if (type.bits() == 24)
+        {
+            if (type.isUnsignedInt())
+            {
+                codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
+                         .add("(buffer().getByte($L) & 0xff) << 16 |", offset)
+                         .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
+                         .add(" (buffer().getByte($L + 2) & 0xff)", offset)
+                         .add(" : ")
+                         .add("(buffer().getByte($L + 2) & 0xff) << 16 |", offset)
+                         .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
+                         .add(" (buffer().getByte($L) & 0xff)", offset);
+            }
+            else
+            {
+                codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
+                         .add("buffer().getByte($L) << 16 |", offset)
+                         .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
+                         .add(" (buffer().getByte($L + 2) & 0xff)", offset)
+                         .add(" : ")
+                         .add("buffer().getByte($L + 2) << 16 |", offset)
+                         .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
+                         .add(" (buffer().getByte($L) & 0xff)", offset);
+            }
+        }
+        else
+        {
+            String getterName = GETTER_NAMES.get(typeName);
+            if (getterName == null)
+            {
+                throw new IllegalStateException("member type not supported: " + typeName);
+            }
+            if (targetTypeName != typeName)
+            {
+                codeBlock.add("($T)(", targetTypeName);
+            }
+
+            codeBlock.add("buffer().$L($L", getterName, offset);
+
+            if (targetTypeName != typeName  && unsignedTypeName != null)
+            {
+                if (typeName == TypeName.BYTE)
+                {
+                    codeBlock.add(") & 0xFF)");
+                }
+                else if (typeName == TypeName.SHORT)
+                {
+                    codeBlock.add(") & 0xFFFF)", ByteOrder.class);
+                }
+                else if (typeName == TypeName.INT)
+                {
+                    codeBlock.add(") & 0xFFFF_FFFFL)", ByteOrder.class);
+                }
+                else
+                {
+                    codeBlock.add(")");
+                }
+            }
+            else
+            {
+                codeBlock.add(")");
+            }
+            if (targetTypeName != typeName && unsignedTypeName == null)
+            {
+                codeBlock.add(")");
+            }
+        }
+    }
+
     private static String iterator(String fieldName)
     {
         return "iterator" + initCap(fieldName);
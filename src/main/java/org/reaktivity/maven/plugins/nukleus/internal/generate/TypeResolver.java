@@ -48,10 +48,17 @@ public final class TypeResolver
 
     public TypeResolver(
         String packageName)
+    {
+        this(packageName, packageName);
+    }
+
+    public TypeResolver(
+        String packageName,
+        String corePackageName)
     {
         this.namedNodesByName = new HashMap<>();
-        this.namesByType = initNamesByType(packageName);
-        this.namesByUnsignedType =  initNamesByUnsignedType(packageName);
+        this.namesByType = initNamesByType(corePackageName);
+        this.namesByUnsignedType =  initNamesByUnsignedType(corePackageName);
         this.packageName = packageName;
     }
 
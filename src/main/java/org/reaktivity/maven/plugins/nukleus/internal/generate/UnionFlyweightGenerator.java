@@ -76,7 +76,7 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
     private final TryWrapMethodGenerator tryWrapMethod;
     private final WrapMethodGenerator wrapMethod;
     private final LimitMethodGenerator limitMethod;
-    private final ToStringMethodGenerator toStringMethod;
+    private final AppendToMethodGenerator appendToMethod;
     private final BuilderClassGenerator builderClass;
 
     public UnionFlyweightGenerator(
@@ -100,7 +100,7 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         this.tryWrapMethod = new TryWrapMethodGenerator(kindTypeName);
         this.wrapMethod = new WrapMethodGenerator(kindTypeName);
         this.limitMethod = new LimitMethodGenerator(superType);
-        this.toStringMethod = new ToStringMethodGenerator(superType);
+        this.appendToMethod = new AppendToMethodGenerator(superType);
         this.builderClass = new BuilderClassGenerator(unionName, flyweightName, superType, kindTypeName, resolver);
     }
 
@@ -122,7 +122,7 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         tryWrapMethod.addMember(value, name, typeName, size, sizeName);
         wrapMethod.addMember(value, name, typeName, size, sizeName);
         limitMethod.addMember(value, name, typeName);
-        toStringMethod.addMember(value, name, typeName);
+        appendToMethod.addMember(value, name, typeName);
         builderClass.addMember(name, type, typeName, size, sizeName, byteOrder);
         return this;
     }
@@ -144,7 +144,7 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         memberOffsetConstant.addParentMember(name, type, typeName);
         memberAccessor.addMember(name, typeName, unsignedTypeName, byteOrder);
         limitMethod.addParentMember(name);
-        toStringMethod.addParentMember(name, typeName);
+        appendToMethod.addParentMember(name, typeName);
         builderClass.addParentMember(name, type, typeName, unsignedType, unsignedTypeName, size, sizeName, sizeTypeName,
             usedAsSize, defaultValue, byteOrder);
         return this;
@@ -171,7 +171,8 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         return builder.addMethod(tryWrapMethod.generate())
                       .addMethod(wrapMethod.generate())
                       .addMethod(limitMethod.generate())
-                      .addMethod(toStringMethod.generate())
+                      .addMethod(toStringMethod())
+                      .addMethod(appendToMethod.generate())
                       .addType(builderClass.generate())
                       .build();
     }
@@ -774,69 +775,74 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
-    private final class ToStringMethodGenerator extends MethodSpecGenerator
+    private MethodSpec toStringMethod()
+    {
+        return methodBuilder("toString")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(String.class)
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private final class AppendToMethodGenerator extends MethodSpecGenerator
     {
         private final AstType superType;
-        private final StringBuilder fieldStringBuilder = new StringBuilder();
-        private final StringBuilder fieldMethodBuilder = new StringBuilder();
+        private final CodeBlock.Builder parentMembers = CodeBlock.builder();
         private String lastParentMemberName;
 
-        private ToStringMethodGenerator(
+        private AppendToMethodGenerator(
             AstType superType)
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
-                    .returns(String.class)
+                    .returns(StringBuilder.class)
+                    .addParameter(StringBuilder.class, "builder")
                     .beginControlFlow("switch (kind())"));
             this.superType = superType;
         }
 
-        public ToStringMethodGenerator addMember(
+        public AppendToMethodGenerator addMember(
             Object value,
             String name,
             TypeName typeName)
         {
-            String fieldString = fieldStringBuilder.toString();
-            String fieldMethod = fieldMethodBuilder.toString();
-            builder.beginControlFlow("case $L:", value instanceof String ? value.toString() : kind(name));
+            builder.beginControlFlow("case $L:", value instanceof String ? value.toString() : kind(name))
+                   .addStatement("builder.append($S)", format("%s [", constant(baseName)))
+                   .addCode(parentMembers.build());
 
             if (typeName instanceof ClassName && isStringType((ClassName) typeName))
             {
-                builder.addStatement("return String.format(\"$L [$L$L=%s]\", $L$L().asString())", constant(baseName),
-                    fieldString, name, fieldMethod, name);
+                builder.addStatement("return $L().appendStringTo(builder.append($S)).append(']')", name, format("%s=", name));
             }
-            else if (typeName.isPrimitive())
+            else if (typeName.isPrimitive() || DIRECT_BUFFER_TYPE.equals(typeName))
             {
-                builder.addStatement("return String.format(\"$L [$L$L=%d]\", $L$L())", constant(baseName), fieldString,
-                    name, fieldMethod, name);
+                builder.addStatement("return builder.append($S).append($L()).append(']')", format("%s=", name), name);
             }
             else
             {
-                builder.addStatement("return String.format(\"$L [$L$L=%s]\", $L$L())", constant(baseName), fieldString,
-                    name, fieldMethod, name);
+                builder.addStatement("return $L().appendTo(builder.append($S)).append(']')", name, format("%s=", name));
             }
             builder.endControlFlow();
             return this;
         }
 
-        public ToStringMethodGenerator addParentMember(
+        public AppendToMethodGenerator addParentMember(
             String name,
             TypeName typeName)
         {
-            if (typeName.isPrimitive())
+            if (typeName instanceof ClassName && isStringType((ClassName) typeName))
             {
-                fieldStringBuilder.append(String.format("%s=%%d, ", name));
-                fieldMethodBuilder.append(String.format("%s(), ", name));
+                parentMembers.addStatement("$LRO.appendStringTo(builder.append($S)).append(\", \")", name, format("%s=", name));
             }
-            else if (typeName instanceof ClassName && isStringType((ClassName) typeName))
+            else if (typeName.isPrimitive() || DIRECT_BUFFER_TYPE.equals(typeName))
             {
-                fieldMethodBuilder.append(String.format("%sRO.asString(), ", name));
+                parentMembers.addStatement("builder.append($S).append($L()).append(\", \")", format("%s=", name), name);
             }
             else
             {
-                fieldStringBuilder.append(String.format("%s=%%s, ", name));
-                fieldMethodBuilder.append(String.format("%s(), ", name));
+                parentMembers.addStatement("$L().appendTo(builder.append($S)).append(\", \")", name, format("%s=", name));
             }
             lastParentMemberName = name;
 
@@ -849,12 +855,12 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
             builder.beginControlFlow("default:");
             if (superType == null)
             {
-                builder.addStatement("return String.format(\"$L [unknown]\")", constant(baseName));
+                builder.addStatement("return builder.append($S)", format("%s [unknown]", constant(baseName)));
             }
             else
             {
-                builder.addStatement("return String.format(\"$L [$L=%d]\", $L())", constant(baseName), lastParentMemberName,
-                    lastParentMemberName);
+                builder.addStatement("return builder.append($S).append($L()).append(']')",
+                    format("%s [%s=", constant(baseName), lastParentMemberName), lastParentMemberName);
             }
             return builder.endControlFlow()
                 .endControlFlow()
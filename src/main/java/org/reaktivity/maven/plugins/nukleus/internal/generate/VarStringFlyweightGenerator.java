@@ -71,6 +71,7 @@ public final class VarStringFlyweightGenerator extends ClassSpecGenerator
                 .addMethod(tryWrapMethod())
                 .addMethod(wrapMethod())
                 .addMethod(toStringMethod())
+                .addMethod(appendToMethod())
                 .addMethod(lengthMethod())
                 .addType(builderClassBuilder.build())
                 .build();
@@ -217,7 +218,21 @@ public final class VarStringFlyweightGenerator extends ClassSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return maxLimit() == offset() ? \"null\" : String.format(\"\\\"%s\\\"\", asString())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .beginControlFlow("if (maxLimit() == offset())")
+                .addStatement("return builder.append(\"null\")")
+                .endControlFlow()
+                .addStatement("return appendStringTo(builder.append('\"')).append('\"')")
                 .build();
     }
 
@@ -83,7 +83,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
     private final TryWrapMethodGenerator tryWrapMethod;
     private final WrapMethodGenerator wrapMethod;
     private final WrapMethodWithArrayGenerator wrapMethodWithArray;
-    private final ToStringMethodGenerator toStringMethod;
+    private final AppendToMethodGenerator appendToMethod;
     private final StringOfTypeMethodsGenerator stringOfTypeMethods;
     private final ListOfTypeMethodsGenerator listOfTypeMethods;
     private final ArrayOfTypeMethodsGenerator arrayOfTypeMethods;
@@ -175,7 +175,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         this.tryWrapMethod = new TryWrapMethodGenerator(kindTypeName, ofType, resolver);
         this.wrapMethod = new WrapMethodGenerator(kindTypeName, ofType, resolver);
         this.wrapMethodWithArray = new WrapMethodWithArrayGenerator(kindTypeName, ofType, resolver);
-        this.toStringMethod = new ToStringMethodGenerator(kindTypeName, ofType, resolver);
+        this.appendToMethod = new AppendToMethodGenerator(kindTypeName, ofType, resolver);
         this.stringOfTypeMethods = new StringOfTypeMethodsGenerator(variantName, builder, kindTypeName, ofType);
         this.listOfTypeMethods = new ListOfTypeMethodsGenerator(variantName, builder, kindTypeName, ofType);
         this.arrayOfTypeMethods = new ArrayOfTypeMethodsGenerator(variantName, builder, kindTypeName, typeVarV, ofType);
@@ -210,7 +210,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         wrapMethod.addMember(kindValue, memberName, memberTypeName, mapKeyType);
         wrapMethodWithArray.addMember(kindValue, memberName);
         tryWrapMethod.addMember(kindValue, memberName, memberTypeName, mapKeyType);
-        toStringMethod.addMember(memberName, kindValue, memberName, memberType, memberTypeName, mapKeyType);
+        appendToMethod.addMember(memberName, kindValue, memberName, memberType, memberTypeName, mapKeyType);
         memberAccessor.addMember(memberName, memberType, memberTypeName, unsignedMemberTypeName, mapKeyType, mapValueType);
         limitMethod.addMember(memberName, kindValue, memberName, memberTypeName, mapKeyType);
         getMethod.addMember(memberName, kindValue, memberType, memberTypeName);
@@ -235,7 +235,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         tryWrapMethod.mixin(builder);
         wrapMethod.mixin(builder);
         wrapMethodWithArray.mixin(builder);
-        toStringMethod.mixin(builder);
+        appendToMethod.mixin(builder);
         stringOfTypeMethods.build();
         listOfTypeMethods.build();
         arrayOfTypeMethods.build();
@@ -928,21 +928,22 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
-    private final class ToStringMethodGenerator extends MethodSpecGenerator
+    private final class AppendToMethodGenerator extends MethodSpecGenerator
     {
         private final TypeName kindTypeName;
         private final AstType ofType;
         private final TypeResolver resolver;
 
-        private ToStringMethodGenerator(
+        private AppendToMethodGenerator(
             TypeName kindTypeName,
             AstType ofType,
             TypeResolver resolver)
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
-                .returns(String.class));
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder"));
             this.kindTypeName = kindTypeName;
             this.ofType = ofType;
             this.resolver = resolver;
@@ -952,7 +953,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             }
         }
 
-        public ToStringMethodGenerator addMember(
+        public AppendToMethodGenerator addMember(
             String name,
             Object kindValue,
             String memberName,
@@ -968,33 +969,35 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 {
                     if (isStringType(memberType))
                     {
-                        builder.addStatement("return String.format(\"$L [$L=%s]\", $LRO.asString())", constant(baseName),
-                            memberName, memberName);
+                        builder.addStatement("return $LRO.appendStringTo(builder.append($S)).append(']')", memberName,
+                            String.format("%s [%s=", constant(baseName), memberName));
                     }
                     else if (memberTypeName == null || memberTypeName.isPrimitive())
                     {
-                        builder.addStatement("return String.format(\"$L [$L=%d]\", $L())", constant(baseName),
-                            NUMBER_WORDS.get(memberName) == null ? memberName : NUMBER_WORDS.get(memberName), getAs(memberName));
+                        builder.addStatement("return builder.append($S).append($L()).append(']')",
+                            String.format("%s [%s=", constant(baseName),
+                                NUMBER_WORDS.get(memberName) == null ? memberName : NUMBER_WORDS.get(memberName)),
+                            getAs(memberName));
                     }
                     else if (ofType == null)
                     {
                         if (mapKeyType == null)
                         {
-                            builder.addStatement("return $LRO.toString()", fieldName(memberTypeName));
+                            builder.addStatement("return $LRO.appendTo(builder)", fieldName(memberTypeName));
                         }
                         else
                         {
-                            builder.addStatement("return $L().toString()", fieldName(memberTypeName));
+                            builder.addStatement("return $L().appendTo(builder)", fieldName(memberTypeName));
                         }
                     }
                     else if (resolver.resolve(name) != null && resolver.resolve(name).getKind() == Kind.VARIANT)
                     {
-                        builder.addStatement("return $LRO.toString()", fieldName(memberTypeName));
+                        builder.addStatement("return $LRO.appendTo(builder)", fieldName(memberTypeName));
                     }
                     else
                     {
-                        builder.addStatement("return String.format(\"$L [$L=%s]\", $L())", constant(baseName), memberName,
-                            getAs(memberName));
+                        builder.addStatement("return builder.append($S).append($L()).append(']')",
+                            String.format("%s [%s=", constant(baseName), memberName), getAs(memberName));
                     }
                 }
                 builder.endControlFlow();
@@ -1007,17 +1010,30 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         {
             if (isListType(ofType) || isArrayType(ofType) || isMapType(ofType) || isBoundedOctetsType(ofType))
             {
-                builder.addStatement("return get().toString()");
+                builder.addStatement("return get().appendTo(builder)");
             }
             else
             {
                 builder.beginControlFlow("default:")
-                    .addStatement("return String.format(\"$L [unknown]\")", constant(baseName))
+                    .addStatement("return builder.append($S)", String.format("%s [unknown]", constant(baseName)))
                     .endControlFlow()
                     .endControlFlow();
             }
             return builder.build();
         }
+
+        @Override
+        public void mixin(
+            TypeSpec.Builder builder)
+        {
+            builder.addMethod(methodBuilder("toString")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(String.class)
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build());
+            super.mixin(builder);
+        }
     }
 
     private static final class StringOfTypeMethodsGenerator extends ClassSpecMixinGenerator
@@ -1161,12 +1177,34 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         .returns(DIRECT_BUFFER_TYPE)
                         .addStatement("return get().items()")
                         .build())
+                    .addMethod(methodBuilder("item")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(typeVarV)
+                        .addParameter(int.class, "index")
+                        .addStatement("return get().item(index)")
+                        .build())
+                    .addMethod(methodBuilder("slice")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(DIRECT_BUFFER_TYPE)
+                        .addParameter(int.class, "from")
+                        .addParameter(int.class, "to")
+                        .addStatement("return get().slice(from, to)")
+                        .build())
                     .addMethod(methodBuilder("maxLength")
                         .addAnnotation(Override.class)
                         .addModifiers(PUBLIC)
                         .returns(void.class)
                         .addParameter(int.class, "maxLength")
                         .addStatement("get().maxLength(maxLength)")
+                        .build())
+                    .addMethod(methodBuilder("itemSize")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(void.class)
+                        .addParameter(int.class, "itemSize")
+                        .addStatement("get().itemSize(itemSize)")
                         .build());
             }
         }
@@ -1738,6 +1776,20 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         .addModifiers(PUBLIC)
                         .returns(DIRECT_BUFFER_TYPE)
                         .addStatement("return get().entries()")
+                        .build())
+                    .addMethod(methodBuilder("get")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .addParameter(typeVarKV, "key")
+                        .returns(typeVarVV)
+                        .addStatement("return get().get(key)")
+                        .build())
+                    .addMethod(methodBuilder("containsKey")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .addParameter(typeVarKV, "key")
+                        .returns(boolean.class)
+                        .addStatement("return get().containsKey(key)")
                         .build());
             }
         }
@@ -3852,6 +3904,17 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         .addStatement("$L.wrap(buffer(), offset(), maxLimit())", enumRW(kindTypeName))
                         .addStatement("$L.set(value)", enumRW(kindTypeName))
                         .addStatement("limit($L.build().limit())", enumRW(kindTypeName));
+                    if (isStringType(ofType))
+                    {
+                        builder.beginControlFlow("if (array != null)")
+                            .beginControlFlow("if (array.limit() == array.fieldsOffset())")
+                            .addStatement("arrayKind = value")
+                            .addStatement("arrayKindMixed = false")
+                            .nextControlFlow("else")
+                            .addStatement("arrayKindMixed |= arrayKind != value")
+                            .endControlFlow()
+                            .endControlFlow();
+                    }
                 }
                 builder.addStatement("return this");
             }
@@ -4100,6 +4163,14 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                             .addStatement("limit(array$LRW.limit())", largestListSize)
                             .addStatement("return this")
                             .build())
+                        .addMethod(methodBuilder("maxLength")
+                            .addAnnotation(Override.class)
+                            .addModifiers(PUBLIC)
+                            .returns(returnType)
+                            .addParameter(int.class, "maxLength")
+                            .addStatement("array$LRW.maxLength(maxLength)", largestListSize)
+                            .addStatement("return this")
+                            .build())
                         .addMethod(methodBuilder("fieldsOffset")
                             .addAnnotation(Override.class)
                             .addModifiers(PUBLIC)
@@ -4428,6 +4499,15 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         .endControlFlow()
                         .addStatement("return newItem")
                         .build());
+                    builder.addField(FieldSpec.builder(enumClassName(kindTypeName), "arrayKind", PRIVATE).build());
+                    builder.addField(FieldSpec.builder(boolean.class, "arrayKindMixed", PRIVATE).build());
+                    builder.addMethod(methodBuilder("rebuildRequired")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(boolean.class)
+                        .addParameter(int.class, "maxLength")
+                        .addStatement("return arrayKind == null || arrayKindMixed || arrayKind != minKind(maxLength)")
+                        .build());
                 }
             }
         }
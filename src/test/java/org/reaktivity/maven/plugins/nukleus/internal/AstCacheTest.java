@@ -0,0 +1,126 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reaktivity.maven.plugins.nukleus.internal.ast.AstScopeNode;
+import org.reaktivity.maven.plugins.nukleus.internal.ast.AstSpecificationNode;
+import org.reaktivity.maven.plugins.nukleus.internal.ast.AstStructNode;
+import org.reaktivity.maven.plugins.nukleus.internal.ast.AstType;
+
+public class AstCacheTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ClassLoader loader;
+    private File cacheDirectory;
+    private List<String> messages;
+
+    @Before
+    public void init() throws Exception
+    {
+        URL inputURL = new File("src/test/resources/test-project").getAbsoluteFile().toURI().toURL();
+        loader = new URLClassLoader(new URL[] { inputURL });
+        cacheDirectory = folder.newFolder("ast-cache");
+        messages = new LinkedList<>();
+    }
+
+    @Test
+    public void shouldReuseCachedSpecification() throws Exception
+    {
+        List<AstSpecificationNode> parsed = newParser().parseAST(singletonList("test"), loader);
+        assertFalse(messages.contains("cached: test.idl"));
+        assertEquals(1, cacheEntries().length);
+
+        List<AstSpecificationNode> cached = newParser().parseAST(singletonList("test"), loader);
+        assertTrue(messages.contains("cached: test.idl"));
+        assertEquals(parsed, cached);
+    }
+
+    @Test
+    public void shouldResolveBuiltInTypesFromCache() throws Exception
+    {
+        newParser().parseAST(singletonList("test"), loader);
+        List<AstSpecificationNode> cached = newParser().parseAST(singletonList("test"), loader);
+
+        AstScopeNode inner = cached.get(0).scope().scopes().get(0);
+        AstStructNode flatParent = inner.structs().get(0);
+        assertEquals("FlatParent", flatParent.name());
+        assertSame(AstType.UINT64, flatParent.members().get(0).type());
+    }
+
+    @Test
+    public void shouldParseWhenCacheEntryCorrupt() throws Exception
+    {
+        List<AstSpecificationNode> parsed = newParser().parseAST(singletonList("test"), loader);
+        Files.write(cacheEntries()[0].toPath(), new byte[] { 0x01, 0x02, 0x03 });
+
+        List<AstSpecificationNode> reparsed = newParser().parseAST(singletonList("test"), loader);
+        assertFalse(messages.contains("cached: test.idl"));
+        assertEquals(parsed, reparsed);
+    }
+
+    @Test
+    public void shouldParseWhenPluginVersionChanged() throws Exception
+    {
+        List<AstSpecificationNode> parsed = newParser("1.0.0").parseAST(singletonList("test"), loader);
+
+        List<AstSpecificationNode> reparsed = newParser("1.0.1").parseAST(singletonList("test"), loader);
+        assertFalse(messages.contains("cached: test.idl"));
+        assertEquals(parsed, reparsed);
+        assertEquals(2, cacheEntries().length);
+    }
+
+    private Parser newParser()
+    {
+        return newParser("develop-SNAPSHOT");
+    }
+
+    private Parser newParser(
+        String version)
+    {
+        messages.clear();
+        return new Parser().debug(messages::add)
+                           .astCache(new AstCache(cacheDirectory, version));
+    }
+
+    private File[] cacheEntries() throws Exception
+    {
+        try (Stream<Path> entries = Files.list(cacheDirectory.toPath()))
+        {
+            return entries.map(Path::toFile).toArray(File[]::new);
+        }
+    }
+}
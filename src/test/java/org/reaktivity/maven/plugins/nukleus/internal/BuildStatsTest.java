@@ -0,0 +1,90 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BuildStatsTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReportSlowestTypesFirst() throws Exception
+    {
+        BuildStats stats = new BuildStats();
+        for (int i = 0; i < 12; i++)
+        {
+            stats.generated("example", "example.Type" + i + "FW", 10, i * 1_000_000L);
+        }
+
+        List<String> slowest = stats.slowest().stream().map(t -> t.type).collect(toList());
+
+        assertEquals(10, slowest.size());
+        assertEquals("example.Type11FW", slowest.get(0));
+        assertEquals("example.Type2FW", slowest.get(9));
+    }
+
+    @Test
+    public void shouldStoreJsonReport() throws Exception
+    {
+        BuildStats stats = new BuildStats();
+        stats.phase("resolve", System.nanoTime());
+        stats.generated("example", "example.FooFW", 12, 1_500_000L);
+        stats.generated("example", "example.BarFW", 8, 500_000L);
+        stats.generated("core", "example.Flyweight", 40, 250_000L);
+
+        File reportFile = new File(folder.getRoot(), "reaktivity/generate-report.json");
+        stats.store(reportFile);
+
+        String json = new String(Files.readAllBytes(reportFile.toPath()), UTF_8);
+        assertTrue(json, json.contains("\"resolve\": "));
+        assertTrue(json, json.contains("\"core\": { \"types\": 1, \"lines\": 40 }"));
+        assertTrue(json, json.contains("\"example\": { \"types\": 2, \"lines\": 20 }"));
+        assertTrue(json, json.contains(
+            "{ \"type\": \"example.FooFW\", \"scope\": \"example\", \"lines\": 12, \"millis\": 1.500 }"));
+    }
+
+    @Test
+    public void shouldRecordGeneratorPhases() throws Exception
+    {
+        BuildStats stats = new BuildStats();
+        Generator generator = new Generator();
+        generator.setOutputDirectory(folder.newFolder("output"));
+        generator.stats(stats).generate();
+
+        List<String> summary = new LinkedList<>();
+        stats.summarize(summary::add);
+
+        for (String phase : new String[] { "resolve", "parse", "ast", "typeResolver", "scopeVisitor", "emit", "write" })
+        {
+            assertTrue(phase, stats.phaseNanos(phase) > 0L);
+        }
+        assertTrue(summary.get(0), summary.get(0).startsWith("Generated "));
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClasspathIndexTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldIndexOnlyEntriesContainingResources() throws Exception
+    {
+        File withIdl = newJar("with-idl.jar", "META-INF/reaktivity/a.idl", "scope a { }");
+        File withoutIdl = newJar("without-idl.jar", "org/example/Example.class", "");
+        File directory = folder.newFolder("classes");
+        File meta = new File(directory, "META-INF/reaktivity");
+        assertTrue(meta.mkdirs());
+        Files.write(new File(meta, "b.idl").toPath(), "scope b { }".getBytes(UTF_8));
+
+        ClasspathIndex index = new ClasspathIndex().index(withIdl)
+                                                   .index(withoutIdl)
+                                                   .index(directory)
+                                                   .index(new File(folder.getRoot(), "missing.jar"));
+
+        assertEquals(asList(withIdl, directory), asList(index.entries().toArray()));
+        assertEquals(1, index.lookup("a.idl").size());
+        assertEquals(1, index.lookup("b.idl").size());
+        assertTrue(index.lookup("c.idl").isEmpty());
+    }
+
+    @Test
+    public void shouldLoadIndexedResources() throws Exception
+    {
+        File jar = newJar("with-idl.jar", "META-INF/reaktivity/a.idl", "scope a { }");
+        File input = folder.newFolder("input");
+        Files.write(new File(input, "a.idl").toPath(), "scope a { struct A { uint8 v; } }".getBytes(UTF_8));
+
+        ClasspathIndex index = new ClasspathIndex().index(jar);
+        ClassLoader jarLoader = index.newLoader(new URL[0], null);
+        ClassLoader inputLoader = index.newLoader(new URL[] { input.toURI().toURL() }, null);
+
+        assertEquals("scope a { }", read(jarLoader.getResource("a.idl")));
+        assertEquals("scope a { struct A { uint8 v; } }", read(inputLoader.getResource("a.idl")));
+        assertNull(jarLoader.getResource("b.idl"));
+    }
+
+    @Test
+    public void shouldReindexModifiedJar() throws Exception
+    {
+        File jar = newJar("changing.jar", "META-INF/reaktivity/a.idl", "scope a { }");
+        assertNotNull(new ClasspathIndex().index(jar).lookup("a.idl").get(0));
+
+        newJar("changing.jar", "META-INF/reaktivity/b.idl", "scope b { struct B { uint8 v; } }");
+        assertTrue(jar.setLastModified(jar.lastModified() + 2000L));
+
+        ClasspathIndex index = new ClasspathIndex().index(jar);
+        assertTrue(index.lookup("a.idl").isEmpty());
+        assertEquals(1, index.lookup("b.idl").size());
+    }
+
+    private File newJar(
+        String jarName,
+        String entryName,
+        String content) throws Exception
+    {
+        File jar = new File(folder.getRoot(), jarName);
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar)))
+        {
+            out.putNextEntry(new JarEntry(entryName));
+            out.write(content.getBytes(UTF_8));
+            out.closeEntry();
+        }
+        return jar;
+    }
+
+    private static String read(
+        URL resource) throws Exception
+    {
+        return new String(ContentHash.read(resource), UTF_8);
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class GenerateCoreMojoTest
+{
+    private static final String CORE_PACKAGE_NAME = "org.reaktivity.reaktor.internal.shared.types";
+    private static final Path CORE_OUTPUT_DIRECTORY = Paths.get("target/generated-test-sources/core-reaktivity");
+    private static final Path CORE_PACKAGE_PATH = CORE_OUTPUT_DIRECTORY.resolve("org/reaktivity/reaktor/internal/shared/types");
+    private static final Path SCOPE_OUTPUT_DIRECTORY = Paths.get("target/generated-test-sources/shared-core-reaktivity");
+    private static final Path SCOPE_PACKAGE_PATH = SCOPE_OUTPUT_DIRECTORY.resolve("org/reaktivity/reaktor/internal/test/types");
+
+    @Rule
+    public GenerateMojoRule core = new GenerateMojoRule("generate-core")
+            .packageName(CORE_PACKAGE_NAME)
+            .outputDirectory(CORE_OUTPUT_DIRECTORY.toString())
+            .manifestFile("target/reaktivity/shared-core/generate-core.manifest")
+            .astCacheDirectory("target/reaktivity/ast-cache");
+
+    @Rule
+    public GenerateMojoRule generator = new GenerateMojoRule()
+            .scopeNames("test")
+            .packageName("org.reaktivity.reaktor.internal.test.types")
+            .corePackageName(CORE_PACKAGE_NAME)
+            .inputDirectory("src/test/resources/test-project")
+            .outputDirectory(SCOPE_OUTPUT_DIRECTORY.toString())
+            .manifestFile("target/reaktivity/shared-core/generate.manifest")
+            .astCacheDirectory("target/reaktivity/ast-cache");
+
+    public GenerateCoreMojoTest() throws Exception
+    {
+    }
+
+    @Test
+    public void shouldGenerateCoreTypesIntoSharedPackage() throws Exception
+    {
+        core.generate();
+
+        assertTrue(Files.isRegularFile(CORE_PACKAGE_PATH.resolve("Flyweight.java")));
+        assertTrue(Files.isRegularFile(CORE_PACKAGE_PATH.resolve("String8FW.java")));
+        assertTrue(Files.isRegularFile(CORE_PACKAGE_PATH.resolve("Map32FW.java")));
+        assertFalse(Files.exists(CORE_PACKAGE_PATH.resolve("inner")));
+    }
+
+    @Test
+    public void shouldReferenceSharedCoreTypesFromScopeGeneration() throws Exception
+    {
+        core.generate();
+        generator.generate();
+
+        String structSource = new String(Files.readAllBytes(
+            SCOPE_PACKAGE_PATH.resolve("inner/ContiguousSizeFieldsFW.java")), UTF_8);
+        assertTrue(structSource.contains("import " + CORE_PACKAGE_NAME + ".Flyweight;"));
+        assertFalse(Files.exists(SCOPE_PACKAGE_PATH.resolve("Flyweight.java")));
+        assertFalse(Files.exists(SCOPE_PACKAGE_PATH.resolve("String8FW.java")));
+    }
+}
@@ -18,23 +18,44 @@ package org.reaktivity.maven.plugins.nukleus.internal;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.List;
 
 import org.apache.maven.plugin.testing.MojoRule;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.configuration.PlexusConfiguration;
+import org.codehaus.plexus.configuration.xml.XmlPlexusConfiguration;
 import org.junit.runner.Description;
 import org.junit.runners.model.Statement;
+import org.sonatype.plexus.build.incremental.BuildContext;
 
 public class GenerateMojoRule extends MojoRule
 {
 
+    private final String goal;
+
     private PlexusConfiguration configuration;
-    private GenerateMojo mojo;
+    private AbstractMojo mojo;
+    private BuildContext buildContext;
 
     public GenerateMojoRule() throws Exception
     {
-        File pom = new File("src/test/resources/test-project/pom.xml");
-        configuration = extractPluginConfiguration("nukleus-maven-plugin", pom);
+        this("generate");
+    }
+
+    public GenerateMojoRule(
+        String goal) throws Exception
+    {
+        this.goal = goal;
+        if ("generate".equals(goal))
+        {
+            File pom = new File("src/test/resources/test-project/pom.xml");
+            configuration = extractPluginConfiguration("nukleus-maven-plugin", pom);
+        }
+        else
+        {
+            configuration = new XmlPlexusConfiguration("configuration");
+        }
     }
 
     GenerateMojoRule scopeNames(String scopeNames)
@@ -61,9 +82,42 @@ public class GenerateMojoRule extends MojoRule
         return this;
     }
 
+    GenerateMojoRule corePackageName(String corePackageName)
+    {
+        configuration.addChild("corePackageName", corePackageName);
+        return this;
+    }
+
+    GenerateMojoRule astCacheDirectory(String astCacheDirectory)
+    {
+        configuration.addChild("astCacheDirectory", astCacheDirectory);
+        return this;
+    }
+
+    GenerateMojoRule manifestFile(String manifestFile)
+    {
+        configuration.addChild("manifestFile", manifestFile);
+        return this;
+    }
+
+    GenerateMojoRule buildContext(BuildContext buildContext)
+    {
+        this.buildContext = buildContext;
+        return this;
+    }
+
+    List<String> classpath() throws IOException
+    {
+        return mojo.classpath();
+    }
+
     public void generate() throws Exception
     {
         configureMojo(mojo, configuration);
+        if (buildContext != null)
+        {
+            mojo.buildContext = buildContext;
+        }
         mojo.execute();
     }
 
@@ -79,7 +133,11 @@ public class GenerateMojoRule extends MojoRule
             public void evaluate() throws Throwable
             {
                 MavenProject project = readMavenProject(new File("src/test/resources/test-project"));
-                mojo = (GenerateMojo) lookupConfiguredMojo(project, "generate");
+                if (!"generate".equals(goal))
+                {
+                    project.getPlugin("org.reaktivity:nukleus-maven-plugin").setConfiguration(null);
+                }
+                mojo = (AbstractMojo) lookupConfiguredMojo(project, goal);
                 assertNotNull(mojo);
                 base.evaluate();
             }
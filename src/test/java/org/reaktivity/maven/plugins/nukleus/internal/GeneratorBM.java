@@ -0,0 +1,166 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.maven.plugins.nukleus.internal.SyntheticIdl.Shape;
+import org.reaktivity.maven.plugins.nukleus.internal.ast.AstSpecificationNode;
+import org.reaktivity.maven.plugins.nukleus.internal.ast.visit.ScopeVisitor;
+import org.reaktivity.maven.plugins.nukleus.internal.generate.TypeResolver;
+import org.reaktivity.maven.plugins.nukleus.internal.generate.TypeSpecGenerator;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(MILLISECONDS)
+public class GeneratorBM
+{
+    private static final String SCOPE_NAME = "synthetic";
+    private static final String PACKAGE_NAME = "org.reaktivity.reaktor.internal.test.types";
+
+    @Param({ "MIXED", "STRUCTS", "NESTED", "VARIANTS", "ENUMS" })
+    public Shape shape;
+
+    @Param({ "100", "1000" })
+    public int definitions;
+
+    private File directory;
+    private ClassLoader loader;
+    private List<String> targetScopes;
+    private List<AstSpecificationNode> specifications;
+    private TypeResolver resolver;
+    private FileSystem fileSystem;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException
+    {
+        this.directory = Files.createTempDirectory("generator-bm").toFile();
+        byte[] content = SyntheticIdl.specification(SCOPE_NAME, shape, definitions).getBytes(UTF_8);
+        Files.write(new File(directory, SCOPE_NAME + ".idl").toPath(), content);
+        this.loader = new URLClassLoader(new URL[] { directory.toURI().toURL() });
+        this.targetScopes = singletonList(SCOPE_NAME);
+        this.specifications = new Parser().parseAST(targetScopes, loader);
+        this.resolver = resolve();
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy() throws IOException
+    {
+        Files.delete(new File(directory, SCOPE_NAME + ".idl").toPath());
+        Files.delete(directory.toPath());
+    }
+
+    @Setup(Level.Invocation)
+    public void initFileSystem()
+    {
+        this.fileSystem = Jimfs.newFileSystem(Configuration.unix());
+    }
+
+    @TearDown(Level.Invocation)
+    public void destroyFileSystem() throws IOException
+    {
+        fileSystem.close();
+    }
+
+    @Benchmark
+    public List<AstSpecificationNode> parse() throws IOException
+    {
+        return new Parser().parseAST(targetScopes, loader);
+    }
+
+    @Benchmark
+    public TypeResolver typeResolver()
+    {
+        return resolve();
+    }
+
+    @Benchmark
+    public Collection<TypeSpecGenerator<?>> scopeVisitor()
+    {
+        Collection<TypeSpecGenerator<?>> typeSpecs = new ArrayList<>();
+        for (AstSpecificationNode specification : specifications)
+        {
+            String scopeName = specification.scope().name();
+            typeSpecs.addAll(specification.accept(new ScopeVisitor(scopeName, PACKAGE_NAME, resolver, targetScopes)));
+        }
+        return typeSpecs;
+    }
+
+    @Benchmark
+    public FileSystem generate() throws IOException
+    {
+        Generator generator = new Generator();
+        generator.setScopeNames(SCOPE_NAME);
+        generator.setPackageName(PACKAGE_NAME);
+        generator.setOutputDirectory(fileSystem.getPath("/generated"));
+        generator.generate(loader);
+        return fileSystem;
+    }
+
+    private TypeResolver resolve()
+    {
+        TypeResolver resolver = new TypeResolver(PACKAGE_NAME);
+        specifications.forEach(resolver::visit);
+        return resolver;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(GeneratorBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
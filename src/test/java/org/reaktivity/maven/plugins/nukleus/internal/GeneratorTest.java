@@ -0,0 +1,416 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reaktivity.maven.plugins.nukleus.internal.SyntheticIdl.Shape;
+import org.reaktivity.maven.plugins.nukleus.internal.ast.AstSpecificationNode;
+import org.reaktivity.maven.plugins.nukleus.internal.ast.visit.ScopeVisitor;
+import org.reaktivity.maven.plugins.nukleus.internal.generate.TypeResolver;
+import org.reaktivity.maven.plugins.nukleus.internal.generate.TypeSpecGenerator;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+
+public class GeneratorTest
+{
+    private static final String PACKAGE_PATH = "org/reaktivity/reaktor/internal/test/types";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File inputDirectory;
+    private File outputDirectory;
+    private File manifestFile;
+
+    @Before
+    public void init() throws Exception
+    {
+        inputDirectory = folder.newFolder("input");
+        outputDirectory = folder.newFolder("output");
+        manifestFile = new File(folder.getRoot(), "generate.manifest");
+    }
+
+    @Test
+    public void shouldSkipGenerationWhenUpToDate() throws Exception
+    {
+        writeIdl("scope example { struct Foo { uint8 value; } }");
+        newGenerator().generate();
+
+        File fooFile = new File(outputDirectory, PACKAGE_PATH + "/FooFW.java");
+        File flyweightFile = new File(outputDirectory, PACKAGE_PATH + "/Flyweight.java");
+        assertTrue(fooFile.setLastModified(0L));
+        assertTrue(flyweightFile.setLastModified(0L));
+
+        newGenerator().generate();
+
+        assertEquals(0L, fooFile.lastModified());
+        assertEquals(0L, flyweightFile.lastModified());
+    }
+
+    @Test
+    public void shouldRegenerateMissingOutput() throws Exception
+    {
+        writeIdl("scope example { struct Foo { uint8 value; } }");
+        newGenerator().generate();
+
+        File fooFile = new File(outputDirectory, PACKAGE_PATH + "/FooFW.java");
+        File flyweightFile = new File(outputDirectory, PACKAGE_PATH + "/Flyweight.java");
+        assertTrue(fooFile.setWritable(true));
+        assertTrue(fooFile.delete());
+        assertTrue(flyweightFile.setLastModified(0L));
+
+        newGenerator().generate();
+
+        assertTrue(fooFile.isFile());
+        assertEquals(0L, flyweightFile.lastModified());
+    }
+
+    @Test
+    public void shouldRegenerateChangedResourceAndDeleteStaleOutput() throws Exception
+    {
+        writeIdl("scope example { struct Foo { uint8 value; } }");
+        newGenerator().generate();
+
+        File flyweightFile = new File(outputDirectory, PACKAGE_PATH + "/Flyweight.java");
+        assertTrue(flyweightFile.setLastModified(0L));
+
+        writeIdl("scope example { struct Bar { uint8 value; } }");
+        newGenerator().generate();
+
+        assertFalse(new File(outputDirectory, PACKAGE_PATH + "/FooFW.java").exists());
+        assertTrue(new File(outputDirectory, PACKAGE_PATH + "/BarFW.java").isFile());
+        assertEquals(0L, flyweightFile.lastModified());
+    }
+
+    @Test
+    public void shouldRegenerateAllWhenPackageNameChanges() throws Exception
+    {
+        writeIdl("scope example { struct Foo { uint8 value; } }");
+        newGenerator().generate();
+
+        Generator generator = newGenerator();
+        generator.setPackageName("org.reaktivity.reaktor.internal.test.types.other");
+        generator.generate();
+
+        assertTrue(new File(outputDirectory, PACKAGE_PATH + "/other/FooFW.java").isFile());
+        assertTrue(new File(outputDirectory, PACKAGE_PATH + "/other/Flyweight.java").isFile());
+    }
+
+    @Test
+    public void shouldNotRewriteUnchangedSources() throws Exception
+    {
+        writeIdl("scope example { struct Foo { uint8 value; } }");
+        Generator generator = newGenerator();
+        generator.setManifestFile(null);
+        generator.generate();
+
+        File fooFile = new File(outputDirectory, PACKAGE_PATH + "/FooFW.java");
+        byte[] fooContent = Files.readAllBytes(fooFile.toPath());
+        assertTrue(fooFile.setLastModified(0L));
+
+        generator.generate();
+
+        assertEquals(0L, fooFile.lastModified());
+        assertArrayEquals(fooContent, Files.readAllBytes(fooFile.toPath()));
+    }
+
+    @Test
+    public void shouldRefreshOnlyChangedOutputs() throws Exception
+    {
+        writeIdl("scope example { struct Foo { uint8 value; } }");
+        newGenerator().generate();
+
+        writeIdl("scope example { struct Bar { uint8 value; } }");
+        Set<Path> refreshed = new TreeSet<>();
+        newGenerator().refresh(refreshed::add).generate();
+
+        Path fooPath = outputDirectory.toPath().resolve(PACKAGE_PATH + "/FooFW.java");
+        Path barPath = outputDirectory.toPath().resolve(PACKAGE_PATH + "/BarFW.java");
+        assertEquals(new TreeSet<>(asList(barPath, fooPath)), refreshed);
+    }
+
+    @Test
+    public void shouldEmitOnlyReachableCoreTypes() throws Exception
+    {
+        writeIdl("scope example { struct Foo { uint8 value; string8 name; } }");
+        Generator generator = newGenerator();
+        generator.setEmitAllCoreTypes(false);
+        generator.generate();
+
+        File string8File = new File(outputDirectory, PACKAGE_PATH + "/String8FW.java");
+        assertTrue(new File(outputDirectory, PACKAGE_PATH + "/Flyweight.java").isFile());
+        assertTrue(new File(outputDirectory, PACKAGE_PATH + "/StringFW.java").isFile());
+        assertTrue(string8File.isFile());
+        assertFalse(new File(outputDirectory, PACKAGE_PATH + "/Map32FW.java").exists());
+        assertFalse(new File(outputDirectory, PACKAGE_PATH + "/List0FW.java").exists());
+
+        writeIdl("scope example { struct Foo { uint8 value; } }");
+        generator = newGenerator();
+        generator.setEmitAllCoreTypes(false);
+        generator.generate();
+
+        assertFalse(string8File.exists());
+
+        newGenerator().generate();
+
+        assertTrue(string8File.isFile());
+        assertTrue(new File(outputDirectory, PACKAGE_PATH + "/Map32FW.java").isFile());
+    }
+
+    @Test
+    public void shouldReferenceSharedCoreTypes() throws Exception
+    {
+        writeIdl("scope example { struct Foo { uint8 value; string8 name; } }");
+        newGenerator().generate();
+
+        Generator generator = newGenerator();
+        generator.setCorePackageName("org.reaktivity.reaktor.internal.shared.types");
+        generator.generate();
+
+        File fooFile = new File(outputDirectory, PACKAGE_PATH + "/FooFW.java");
+        String fooSource = new String(Files.readAllBytes(fooFile.toPath()), UTF_8);
+        assertTrue(fooSource.contains("import org.reaktivity.reaktor.internal.shared.types.Flyweight;"));
+        assertTrue(fooSource.contains("import org.reaktivity.reaktor.internal.shared.types.String8FW;"));
+        assertFalse(new File(outputDirectory, PACKAGE_PATH + "/Flyweight.java").exists());
+        assertFalse(new File(outputDirectory, PACKAGE_PATH + "/String8FW.java").exists());
+    }
+
+    @Test
+    public void shouldGenerateOnlyCoreTypesWithoutScopes() throws Exception
+    {
+        writeIdl("scope example { struct Foo { uint8 value; } }");
+        Generator generator = newGenerator();
+        generator.setScopeNames("");
+        generator.generate();
+
+        assertTrue(new File(outputDirectory, PACKAGE_PATH + "/Flyweight.java").isFile());
+        assertTrue(new File(outputDirectory, PACKAGE_PATH + "/Map32FW.java").isFile());
+        assertFalse(new File(outputDirectory, PACKAGE_PATH + "/FooFW.java").exists());
+
+        File flyweightFile = new File(outputDirectory, PACKAGE_PATH + "/Flyweight.java");
+        assertTrue(flyweightFile.setLastModified(0L));
+        generator.generate();
+
+        assertEquals(0L, flyweightFile.lastModified());
+    }
+
+    @Test
+    public void shouldLocateLazyListFieldsOnAccess() throws Exception
+    {
+        writeIdl("scope example { list<uint32, uint32> Lazy { uint8 field0; string8 field1; } }");
+        Generator generator = newGenerator();
+        generator.setLazyLists(true);
+        generator.generate();
+
+        String lazySource = new String(Files.readAllBytes(
+            new File(outputDirectory, PACKAGE_PATH + "/LazyFW.java").toPath()), UTF_8);
+        assertTrue(lazySource.contains("private void locate(int index)"));
+        assertTrue(lazySource.contains("locatedField = INDEX_FIELD0;"));
+        assertTrue(lazySource.contains("if (locatedField <= INDEX_FIELD1) {"));
+        assertFalse(lazySource.contains("private int wrapFields0("));
+    }
+
+    @Test
+    public void shouldSplitListWrapAndReportLargeMethods() throws Exception
+    {
+        StringBuilder idl = new StringBuilder("scope example { list<uint32, uint32> Wide { ");
+        for (int i = 0; i < 12; i++)
+        {
+            idl.append("string8 field").append(i).append("; ");
+        }
+        writeIdl(idl.append("} }").toString());
+
+        BuildStats stats = new BuildStats();
+        Generator generator = newGenerator();
+        generator.setBytecodeReport(true);
+        generator.stats(stats).generate();
+
+        String wideSource = new String(Files.readAllBytes(
+            new File(outputDirectory, PACKAGE_PATH + "/WideFW.java").toPath()), UTF_8);
+        assertTrue(wideSource.contains("private int wrapFields2("));
+        assertTrue(wideSource.contains("private int tryWrapFields2("));
+
+        List<String> largest = stats.largest().stream().map(m -> m.type + "." + m.method).collect(toList());
+        assertTrue(largest.toString(), largest.contains("org.reaktivity.reaktor.internal.test.types.WideFW.appendTo(" +
+            "Ljava/lang/StringBuilder;)Ljava/lang/StringBuilder;"));
+        assertTrue(largest.toString(), largest.stream().noneMatch(m -> m.contains("WideFW.wrap")));
+        assertTrue(stats.phaseNanos("bytecode") > 0L);
+    }
+
+    @Test
+    public void shouldGenerateIdenticalSourcesInParallel() throws Exception
+    {
+        File serialDirectory = folder.newFolder("serial");
+        File parallelDirectory = folder.newFolder("parallel");
+
+        Generator serial = new Generator();
+        serial.setOutputDirectory(serialDirectory);
+        serial.generate();
+
+        Generator parallel = new Generator();
+        parallel.setOutputDirectory(parallelDirectory);
+        parallel.setParallelism(4);
+        parallel.generate();
+
+        List<Path> serialPaths = relativePaths(serialDirectory.toPath());
+        assertEquals(serialPaths, relativePaths(parallelDirectory.toPath()));
+        for (Path path : serialPaths)
+        {
+            assertArrayEquals(path.toString(),
+                Files.readAllBytes(serialDirectory.toPath().resolve(path)),
+                Files.readAllBytes(parallelDirectory.toPath().resolve(path)));
+        }
+    }
+
+    @Test
+    public void shouldGenerateSyntheticShapesInMemory() throws Exception
+    {
+        URLClassLoader loader = new URLClassLoader(new URL[] { inputDirectory.toURI().toURL() });
+        for (Shape shape : Shape.values())
+        {
+            Files.write(new File(inputDirectory, "synthetic.idl").toPath(),
+                SyntheticIdl.specification("synthetic", shape, 16).getBytes(UTF_8));
+
+            try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix()))
+            {
+                Generator generator = new Generator();
+                generator.setScopeNames("synthetic");
+                generator.setOutputDirectory(fileSystem.getPath("/generated"));
+                generator.generate(loader);
+
+                Path packagePath = fileSystem.getPath("/generated", PACKAGE_PATH);
+                assertTrue(shape.name(), Files.isRegularFile(packagePath.resolve("Flyweight.java")));
+                assertTrue(shape.name(), relativePaths(packagePath).size() > 16);
+            }
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void shouldRegenerateChangedScopesWhileWatching() throws Exception
+    {
+        writeIdl("scope example { struct Foo { uint8 value; } }");
+        URLClassLoader loader = new URLClassLoader(new URL[] { inputDirectory.toURI().toURL() });
+        Generator generator = newGenerator();
+        generator.setManifestFile(null);
+
+        Thread watcher = new Thread(() ->
+        {
+            try
+            {
+                generator.watch(loader);
+            }
+            catch (Exception ex)
+            {
+                // interrupted, stop watching
+            }
+        });
+        watcher.start();
+        try
+        {
+            File fooFile = new File(outputDirectory, PACKAGE_PATH + "/FooFW.java");
+            File barFile = new File(outputDirectory, PACKAGE_PATH + "/BarFW.java");
+            while (!fooFile.isFile())
+            {
+                Thread.sleep(10L);
+            }
+
+            writeIdl("scope example { struct Bar { uint8 value; } }");
+            while (!barFile.isFile() || fooFile.exists())
+            {
+                Thread.sleep(10L);
+            }
+        }
+        finally
+        {
+            watcher.interrupt();
+            watcher.join();
+        }
+    }
+
+    @Test
+    public void shouldStreamTypeSpecsFromScopeVisitor() throws Exception
+    {
+        Files.write(new File(inputDirectory, "synthetic.idl").toPath(),
+            SyntheticIdl.specification("synthetic", Shape.NESTED, 32).getBytes(UTF_8));
+        URLClassLoader loader = new URLClassLoader(new URL[] { inputDirectory.toURI().toURL() });
+        List<String> targetScopes = asList("synthetic");
+        AstSpecificationNode specification = new Parser().parseAST(targetScopes, loader).get(0);
+        TypeResolver resolver = new TypeResolver("example");
+        resolver.visit(specification);
+
+        Collection<TypeSpecGenerator<?>> collected =
+            specification.accept(new ScopeVisitor("synthetic", "example", resolver, targetScopes));
+        List<TypeSpecGenerator<?>> streamed = new LinkedList<>();
+        Collection<TypeSpecGenerator<?>> remaining =
+            specification.accept(new ScopeVisitor("synthetic", "example", resolver, targetScopes, streamed::add));
+
+        assertTrue(remaining.isEmpty());
+        assertEquals(collected.size(), streamed.size());
+    }
+
+    private static List<Path> relativePaths(
+        Path directory) throws Exception
+    {
+        try (Stream<Path> paths = Files.walk(directory))
+        {
+            return paths.filter(Files::isRegularFile)
+                        .map(directory::relativize)
+                        .sorted()
+                        .collect(toList());
+        }
+    }
+
+    private Generator newGenerator()
+    {
+        Generator generator = new Generator();
+        generator.setScopeNames("example");
+        generator.setInputDirectory(inputDirectory);
+        generator.setOutputDirectory(outputDirectory);
+        generator.setManifestFile(manifestFile);
+        return generator;
+    }
+
+    private void writeIdl(
+        String idl) throws Exception
+    {
+        Files.write(new File(inputDirectory, "example.idl").toPath(), idl.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.sonatype.plexus.build.incremental.DefaultBuildContext;
+
+public class IncrementalGenerateMojoTest
+{
+    private static final Path OUTPUT_DIRECTORY = Paths.get("target/generated-test-sources/incremental-reaktivity");
+    private static final Path MANIFEST_FILE = Paths.get("target/reaktivity/incremental/generate.manifest");
+
+    @Rule
+    public GenerateMojoRule generator = new GenerateMojoRule()
+            .scopeNames("test")
+            .packageName("org.reaktivity.reaktor.internal.test.types")
+            .inputDirectory("src/test/resources/test-project")
+            .outputDirectory(OUTPUT_DIRECTORY.toString())
+            .manifestFile(MANIFEST_FILE.toString())
+            .astCacheDirectory("target/reaktivity/ast-cache");
+
+    public IncrementalGenerateMojoTest() throws Exception
+    {
+    }
+
+    @Before
+    public void init() throws Exception
+    {
+        if (Files.exists(OUTPUT_DIRECTORY))
+        {
+            try (Stream<Path> paths = Files.walk(OUTPUT_DIRECTORY))
+            {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+
+        Files.createDirectories(MANIFEST_FILE.getParent());
+        Files.deleteIfExists(MANIFEST_FILE);
+        Files.createFile(MANIFEST_FILE);
+    }
+
+    @Test
+    public void shouldSkipIncrementalBuildWithoutDelta() throws Exception
+    {
+        generator.buildContext(new IncrementalBuildContext(f -> false))
+            .generate();
+
+        assertFalse(Files.exists(OUTPUT_DIRECTORY));
+    }
+
+    @Test
+    public void shouldRegenerateIncrementalBuildWhenClasspathChanged() throws Exception
+    {
+        List<String> classpath = generator.classpath();
+        assertFalse(classpath.isEmpty());
+
+        generator.buildContext(new IncrementalBuildContext(f -> classpath.contains(f.getPath())))
+            .generate();
+
+        assertTrue(Files.isRegularFile(OUTPUT_DIRECTORY.resolve(
+            "org/reaktivity/reaktor/internal/test/types/inner/EnumWithInt16.java")));
+    }
+
+    private static final class IncrementalBuildContext extends DefaultBuildContext
+    {
+        private final Predicate<File> delta;
+
+        private IncrementalBuildContext(
+            Predicate<File> delta)
+        {
+            this.delta = delta;
+        }
+
+        @Override
+        public boolean isIncremental()
+        {
+            return true;
+        }
+
+        @Override
+        public boolean hasDelta(
+            File file)
+        {
+            return delta.test(file);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.maven.plugins.nukleus.internal.ast.AstSpecificationNode;
+import org.reaktivity.maven.plugins.nukleus.internal.ast.parse.AstParser;
+import org.reaktivity.maven.plugins.nukleus.internal.parser.NukleusLexer;
+import org.reaktivity.maven.plugins.nukleus.internal.parser.NukleusParser;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class ParserBM
+{
+    private static final String SCOPE_NAME = "synthetic";
+
+    @Param({ "1000", "10000" })
+    public int definitions;
+
+    private byte[] content;
+    private Parser parser;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException
+    {
+        this.content = SyntheticIdl.specification(SCOPE_NAME, definitions).getBytes(UTF_8);
+        this.parser = new Parser();
+    }
+
+    @Benchmark
+    public AstSpecificationNode parseFullLL() throws IOException
+    {
+        NukleusLexer lexer = new NukleusLexer(CharStreams.fromStream(new ByteArrayInputStream(content)));
+        NukleusParser parser = new NukleusParser(new CommonTokenStream(lexer));
+        parser.setErrorHandler(new BailErrorStrategy());
+        return new AstParser().visitSpecification(parser.specification());
+    }
+
+    @Benchmark
+    public AstSpecificationNode parseTwoStage() throws IOException
+    {
+        return parser.parseSpecification(SCOPE_NAME + ".idl", content);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(ParserBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reaktivity.maven.plugins.nukleus.internal.ast.AstScopeNode;
+
+public class ParserTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ClassLoader loader;
+    private List<String> warnings;
+    private List<String> errors;
+
+    @Before
+    public void init() throws Exception
+    {
+        File inputDirectory = folder.getRoot();
+        writeIdl(inputDirectory, "a", "scope a { struct A1 extends b::B { uint8 v; } struct A2 extends c::C { uint8 v; } }");
+        writeIdl(inputDirectory, "b", "scope b { struct B extends d::D { uint8 v; } }");
+        writeIdl(inputDirectory, "c", "scope c { struct C extends d::D { uint8 v; } struct C2 extends e::E { uint8 v; } }");
+        writeIdl(inputDirectory, "d", "scope d { struct D { uint8 v; } }");
+        writeIdl(inputDirectory, "invalid", "scope invalid { struct I extends a::A1 { uint8 } }");
+
+        loader = new URLClassLoader(new URL[] { inputDirectory.toURI().toURL() });
+        warnings = new LinkedList<>();
+        errors = new LinkedList<>();
+    }
+
+    @Test
+    public void shouldResolveDependenciesConcurrentlyInSequentialOrder() throws Exception
+    {
+        List<ParsedResource> sequential = newParser(1).parseResources(singletonList("a"), loader);
+        List<String> sequentialWarnings = new LinkedList<>(warnings);
+        warnings.clear();
+
+        List<ParsedResource> concurrent = newParser(4).parseResources(singletonList("a"), loader);
+
+        assertEquals(asList("a.idl", "b.idl", "c.idl", "d.idl"), names(sequential));
+        assertEquals(names(sequential), names(concurrent));
+        assertEquals(asList("Resource e.idl not found"), sequentialWarnings);
+        assertEquals(sequentialWarnings, warnings);
+        for (int i = 0; i < sequential.size(); i++)
+        {
+            assertEquals(sequential.get(i).hash(), concurrent.get(i).hash());
+            assertEquals(sequential.get(i).dependencies(), concurrent.get(i).dependencies());
+            assertEquals(sequential.get(i).specification(), concurrent.get(i).specification());
+        }
+    }
+
+    @Test
+    public void shouldReportParseFailureConcurrently() throws Exception
+    {
+        try
+        {
+            newParser(4).parseResources(singletonList("invalid"), loader);
+        }
+        catch (ParseCancellationException ex)
+        {
+            assertEquals(1, errors.size());
+            assertEquals("Parse failed in invalid.idl at 1:47 on \"}\"", errors.get(0));
+            return;
+        }
+        throw new AssertionError("expected ParseCancellationException");
+    }
+
+    @Test(timeout = 10000, expected = StackOverflowError.class)
+    public void shouldReportResolveErrorConcurrently() throws Exception
+    {
+        ClassLoader failing = new ClassLoader(loader)
+        {
+            @Override
+            public URL getResource(
+                String name)
+            {
+                if ("d.idl".equals(name))
+                {
+                    throw new StackOverflowError();
+                }
+                return super.getResource(name);
+            }
+        };
+
+        newParser(4).parseResources(singletonList("a"), failing);
+    }
+
+    @Test
+    public void shouldParseAfterParseFailureReusingParserState() throws Exception
+    {
+        Parser parser = newParser(1);
+        try
+        {
+            parser.parseResources(singletonList("invalid"), loader);
+            throw new AssertionError("expected ParseCancellationException");
+        }
+        catch (ParseCancellationException ex)
+        {
+            assertEquals(1, errors.size());
+        }
+
+        List<ParsedResource> resources = parser.parseResources(singletonList("a"), loader);
+
+        assertEquals(asList("a.idl", "b.idl", "c.idl", "d.idl"), names(resources));
+        assertEquals(newParser(1).parseResources(singletonList("a"), loader).get(0).specification(),
+                     resources.get(0).specification());
+    }
+
+    @Test
+    public void shouldParseSyntheticSpecification() throws Exception
+    {
+        writeIdl(folder.getRoot(), "synthetic", SyntheticIdl.specification("synthetic", 100));
+
+        List<ParsedResource> resources = newParser(1).parseResources(singletonList("synthetic"), loader);
+
+        AstScopeNode scope = resources.get(0).specification().scope();
+        assertEquals(1, resources.size());
+        assertEquals(25, scope.enums().size());
+        assertEquals(50, scope.structs().size());
+        assertEquals(25, scope.unions().size());
+        assertEquals(0, errors.size());
+    }
+
+    private Parser newParser(
+        int parallelism)
+    {
+        return new Parser().warn(warnings::add)
+                           .error(errors::add)
+                           .parallelism(parallelism);
+    }
+
+    private static List<String> names(
+        List<ParsedResource> resources)
+    {
+        return resources.stream().map(ParsedResource::name).collect(toList());
+    }
+
+    private static void writeIdl(
+        File inputDirectory,
+        String scopeName,
+        String idl) throws Exception
+    {
+        Files.write(new File(inputDirectory, scopeName + ".idl").toPath(), idl.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,255 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal;
+
+public final class SyntheticIdl
+{
+    private static final int NESTING_DEPTH = 8;
+    private static final int VARIANT_WIDTH = 64;
+    private static final int ENUM_WIDTH = 256;
+    private static final String[] WIDE_MEMBER_TYPES =
+    {
+        "int8", "int16", "int32", "int64", "uint8", "uint16", "uint32", "string8", "string16", "varint32"
+    };
+
+    public enum Shape
+    {
+        MIXED,
+        STRUCTS,
+        NESTED,
+        VARIANTS,
+        ENUMS
+    }
+
+    private SyntheticIdl()
+    {
+    }
+
+    public static String specification(
+        String scopeName,
+        int definitions)
+    {
+        return specification(scopeName, Shape.MIXED, definitions);
+    }
+
+    public static String specification(
+        String scopeName,
+        Shape shape,
+        int definitions)
+    {
+        StringBuilder idl = new StringBuilder();
+        idl.append("scope ").append(scopeName).append("\n{\n");
+        switch (shape)
+        {
+        case STRUCTS:
+            for (int index = 0; index < definitions; index++)
+            {
+                appendFlatStruct(idl, index);
+            }
+            break;
+        case NESTED:
+            appendNestedScopes(idl, definitions);
+            break;
+        case VARIANTS:
+            for (int index = 0; index < definitions; index++)
+            {
+                appendWideVariant(idl, index);
+            }
+            break;
+        case ENUMS:
+            for (int index = 0; index < definitions; index++)
+            {
+                appendBigEnum(idl, index);
+            }
+            break;
+        default:
+            appendMixed(idl, definitions);
+            break;
+        }
+        idl.append("}\n");
+        return idl.toString();
+    }
+
+    private static void appendMixed(
+        StringBuilder idl,
+        int definitions)
+    {
+        for (int index = 0; index < definitions; index++)
+        {
+            switch (index % 4)
+            {
+            case 0:
+                appendEnum(idl, index);
+                break;
+            case 1:
+                appendStruct(idl, index);
+                break;
+            case 2:
+                appendUnion(idl, index);
+                break;
+            default:
+                appendDerivedStruct(idl, index);
+                break;
+            }
+        }
+    }
+
+    private static void appendEnum(
+        StringBuilder idl,
+        int index)
+    {
+        idl.append("    enum Enum").append(index).append(" (uint8)\n    {\n")
+           .append("        FIRST(1),\n")
+           .append("        SECOND(2),\n")
+           .append("        THIRD(3)\n")
+           .append("    }\n\n");
+    }
+
+    private static void appendStruct(
+        StringBuilder idl,
+        int index)
+    {
+        idl.append("    struct Struct").append(index).append("\n    {\n")
+           .append("        uint64 fixed1 = ").append(index).append(";\n")
+           .append("        string8 string1;\n")
+           .append("        int32 fixed2;\n")
+           .append("        uint16 length;\n")
+           .append("        octets[length] octets1;\n")
+           .append("        Enum").append(index - 1).append(" kind;\n")
+           .append("        varstring string2;\n")
+           .append("    }\n\n");
+    }
+
+    private static void appendUnion(
+        StringBuilder idl,
+        int index)
+    {
+        idl.append("    union Union").append(index).append(" switch (uint8)\n    {\n")
+           .append("        case 1: Struct").append(index - 1).append(" struct1;\n")
+           .append("        case 2: string16 string1;\n")
+           .append("        case 3: int64 fixed1;\n")
+           .append("    }\n\n");
+    }
+
+    private static void appendDerivedStruct(
+        StringBuilder idl,
+        int index)
+    {
+        idl.append("    struct Struct").append(index).append(" extends Struct").append(index - 2)
+           .append(" [0x").append(Integer.toHexString(index)).append("]\n    {\n")
+           .append("        uint32 fixed3 = ").append(index).append(";\n")
+           .append("        Union").append(index - 1).append(" union1;\n")
+           .append("        string8[] array1;\n")
+           .append("    }\n\n");
+    }
+
+    private static void appendFlatStruct(
+        StringBuilder idl,
+        int index)
+    {
+        idl.append("    struct Flat").append(index).append("\n    {\n")
+           .append("        uint64 fixed1 = ").append(index).append(";\n")
+           .append("        string8 string1;\n")
+           .append("        int32 fixed2;\n")
+           .append("        uint16 length;\n")
+           .append("        octets[length] octets1;\n")
+           .append("        uint8[4] array1;\n")
+           .append("        varstring string2;\n")
+           .append("    }\n\n");
+    }
+
+    private static void appendNestedScopes(
+        StringBuilder idl,
+        int definitions)
+    {
+        int perScope = Math.max(1, definitions / NESTING_DEPTH);
+        int remaining = definitions;
+        int depth = 0;
+        while (remaining > 0)
+        {
+            String indent = indent(depth);
+            idl.append(indent).append("scope level").append(depth).append("\n").append(indent).append("{\n");
+            int count = Math.min(perScope, remaining);
+            for (int index = 0; index < count; index++)
+            {
+                idl.append(indent).append("    struct Nested").append(index).append("\n")
+                   .append(indent).append("    {\n")
+                   .append(indent).append("        uint32 fixed1;\n");
+                if (index > 0)
+                {
+                    idl.append(indent).append("        Nested").append(index - 1).append(" nested;\n");
+                }
+                idl.append(indent).append("        string8 string1;\n")
+                   .append(indent).append("    }\n\n");
+            }
+            remaining -= count;
+            depth++;
+        }
+        while (depth > 0)
+        {
+            depth--;
+            idl.append(indent(depth)).append("}\n");
+        }
+    }
+
+    private static void appendWideVariant(
+        StringBuilder idl,
+        int index)
+    {
+        idl.append("    variant Variant").append(index).append(" switch (uint8) of int64\n    {\n")
+           .append("        case 0x81: int64;\n")
+           .append("        case 0x71: int32;\n")
+           .append("        case 0x50: int24;\n")
+           .append("        case 0x61: int16;\n")
+           .append("        case 0x51: int8;\n")
+           .append("        case 0x44: 0;\n")
+           .append("        case 0x01: 1;\n")
+           .append("    }\n\n");
+
+        idl.append("    union Wide").append(index).append(" switch (uint8)\n    {\n");
+        for (int kind = 0; kind < VARIANT_WIDTH; kind++)
+        {
+            String memberType = kind % 4 == 0 ? "Variant" + index : WIDE_MEMBER_TYPES[kind % WIDE_MEMBER_TYPES.length];
+            idl.append("        case ").append(kind + 1).append(": ").append(memberType)
+               .append(" member").append(kind).append(";\n");
+        }
+        idl.append("    }\n\n");
+    }
+
+    private static void appendBigEnum(
+        StringBuilder idl,
+        int index)
+    {
+        idl.append("    enum Big").append(index).append(" (uint16)\n    {\n");
+        for (int value = 0; value < ENUM_WIDTH; value++)
+        {
+            idl.append("        VALUE").append(value).append(" (").append(value).append(")")
+               .append(value + 1 < ENUM_WIDTH ? ",\n" : "\n");
+        }
+        idl.append("    }\n\n");
+    }
+
+    private static String indent(
+        int depth)
+    {
+        StringBuilder indent = new StringBuilder("    ");
+        for (int level = 0; level < depth; level++)
+        {
+            indent.append("    ");
+        }
+        return indent.toString();
+    }
+}
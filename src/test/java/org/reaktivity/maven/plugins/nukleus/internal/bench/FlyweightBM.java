@@ -60,6 +60,10 @@ public class FlyweightBM
     private FlatWithOctetsFW.Builder flatWithOctetsRW = new FlatWithOctetsFW.Builder();
     private FlatWithOctetsFW flatWithOctetsRO = new FlatWithOctetsFW();
 
+    private MutableDirectBuffer encoded;
+    private FlatFW flatEncodedRO = new FlatFW();
+    private FlatWithOctetsFW flatWithOctetsEncodedRO = new FlatWithOctetsFW();
+
     @Setup(Level.Trial)
     public void init()
     {
@@ -68,6 +72,31 @@ public class FlyweightBM
         this.values = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
         this.values.setMemory(0, 1024, (byte) new Random().nextInt(256));
         iterations = 0;
+
+        this.encoded = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        final int flatLimit = flatRW.wrap(encoded, 0, encoded.capacity())
+              .fixed1(1)
+              .fixed2(20)
+              .string1(values, 0, 70)
+              .fixed3(30)
+              .string2(values, 500, 70)
+              .string3(values, 600, 70)
+              .string4(values, 700, 70)
+              .build()
+              .limit();
+        flatWithOctetsRW.wrap(encoded, flatLimit, encoded.capacity())
+            .fixed1(1)
+            .octets1(values, 0, 10)
+            .string1(values, 0, 10)
+            .octets2(values, 20, 10)
+            .lengthOctets3(30)
+            .octets3(values, 30, 30)
+            .octets4(values, 60, 40)
+            .octets5(values, 100, 20)
+            .extension(values, 200, 100)
+            .build();
+        flatEncodedRO.wrap(encoded, 0, flatLimit);
+        flatWithOctetsEncodedRO.wrap(encoded, flatLimit, encoded.capacity());
     }
 
     @Benchmark
@@ -80,6 +109,8 @@ public class FlyweightBM
               .string1("value1.............................................................................")
               .fixed3(30)
               .string2("value2.............................................................................")
+              .string3("value3.............................................................................")
+              .string4("value4.............................................................................")
               .build();
         return flatRO.wrap(buffer, 0, buffer.capacity()).fixed1();
     }
@@ -94,6 +125,8 @@ public class FlyweightBM
               .string1(values, 0, 70)
               .fixed3(30)
               .string2(values, 500, 70)
+              .string3(values, 600, 70)
+              .string4(values, 700, 70)
               .build();
         return flatRO.wrap(buffer, 0, buffer.capacity()).fixed1();
     }
@@ -130,6 +163,23 @@ public class FlyweightBM
         return flatWithOctetsRO.wrap(buffer, 0, buffer.capacity()).fixed1();
     }
 
+    @Benchmark
+    public long flatFWFieldsAfterString(
+        final Control control) throws Exception
+    {
+        return flatEncodedRO.fixed3() + flatEncodedRO.fixed4() + flatEncodedRO.fixed5() + flatEncodedRO.limit();
+    }
+
+    @Benchmark
+    public long flatWithOctetsFWFieldsAfterOctets(
+        final Control control) throws Exception
+    {
+        return flatWithOctetsEncodedRO.lengthOctets2() +
+               flatWithOctetsEncodedRO.lengthOctets4() +
+               flatWithOctetsEncodedRO.lengthOctets5() +
+               flatWithOctetsEncodedRO.limit();
+    }
+
     public static void main(
         String[] args) throws RunnerException
     {
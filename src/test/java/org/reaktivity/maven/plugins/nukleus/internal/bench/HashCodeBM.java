@@ -0,0 +1,109 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Random;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.OctetsFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class HashCodeBM
+{
+    @Param({"8", "31", "128", "1024"})
+    private int size;
+
+    private MutableDirectBuffer buffer;
+
+    private OctetsFW octetsRO = new OctetsFW();
+    private OctetsFW cachedOctetsRO = new OctetsFW();
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.buffer = new UnsafeBuffer(allocateDirect(size).order(nativeOrder()));
+        final byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        buffer.putBytes(0, bytes);
+
+        octetsRO.wrap(buffer, 0, size);
+        cachedOctetsRO.cacheHash(true);
+        cachedOctetsRO.wrap(buffer, 0, size);
+    }
+
+    @Benchmark
+    public int bytewiseHashCode() throws Exception
+    {
+        final DirectBuffer buffer = octetsRO.buffer();
+        final int limit = octetsRO.limit();
+        int result = 1;
+        for (int i = octetsRO.offset(); i < limit; i++)
+        {
+            result = 31 * result + buffer.getByte(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int wordwiseHashCode() throws Exception
+    {
+        return octetsRO.hashCode();
+    }
+
+    @Benchmark
+    public int cachedHashCode() throws Exception
+    {
+        return cachedOctetsRO.hashCode();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(HashCodeBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -219,6 +219,35 @@ public class Array16FWTest
         assertAllTestValuesReadCaseVariantItems(array, 0);
     }
 
+    @Test
+    public void shouldKeepWiderItemsWhenDeclaredMaxLengthIsSmaller() throws Exception
+    {
+        Array16FW.Builder
+            <VariantEnumKindOfStringFW.Builder, VariantEnumKindOfStringFW>
+            flyweightRW = new Array16FW.Builder<>(new VariantEnumKindOfStringFW.Builder(),
+            new VariantEnumKindOfStringFW());
+
+        Array16FW<VariantEnumKindOfStringFW> flyweightRO = new Array16FW<>(new VariantEnumKindOfStringFW());
+
+        String item1 = String.format("%1000s", "0");
+        String item2 = String.format("%1000s", "1");
+
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .item(b -> b.setAsString32(asStringFW(item1)))
+            .item(b -> b.setAsString32(asStringFW(item2)))
+            .maxLength(10)
+            .build()
+            .limit();
+
+        final Array16FW<VariantEnumKindOfStringFW> array = flyweightRO.wrap(buffer,  0,  limit);
+
+        List<String> arrayItems = new ArrayList<>();
+        array.forEach(v -> arrayItems.add(v.get().asString()));
+        assertEquals(item1, arrayItems.get(0));
+        assertEquals(item2, arrayItems.get(1));
+        assertEquals(2, array.fieldCount());
+    }
+
     private static StringFW asStringFW(
         String value)
     {
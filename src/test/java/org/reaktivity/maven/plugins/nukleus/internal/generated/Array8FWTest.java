@@ -24,8 +24,10 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
@@ -202,6 +204,122 @@ public class Array8FWTest
         assertAllTestValuesReadCaseVariantItems(array, 0);
     }
 
+    @Test
+    public void shouldSetVariantItemsWithDeclaredMaxLength() throws Exception
+    {
+        Array8FW.Builder
+            <VariantEnumKindOfStringFW.Builder, VariantEnumKindOfStringFW>
+            flyweightRW = new Array8FW.Builder<>(new VariantEnumKindOfStringFW.Builder(),
+            new VariantEnumKindOfStringFW());
+
+        Array8FW<VariantEnumKindOfStringFW> flyweightRO = new Array8FW<>(new VariantEnumKindOfStringFW());
+
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .maxLength(300)
+            .item(b -> b.setAsString16(asStringFW("symbolA")))
+            .item(b -> b.setAsString16(asStringFW("symbolB")))
+            .build()
+            .limit();
+
+        final Array8FW<VariantEnumKindOfStringFW> array = flyweightRO.wrap(buffer,  0,  limit);
+
+        List<String> arrayItems = new ArrayList<>();
+        array.forEach(v -> arrayItems.add(v.get().asString()));
+        assertEquals(Arrays.asList("symbolA", "symbolB"), arrayItems);
+        assertEquals(EnumWithInt8.TEN, array.item(1).kind());
+        assertEquals(20, array.length());
+        assertEquals(2, array.fieldCount());
+    }
+
+    @Test
+    public void shouldGetItemsByIndex() throws Exception
+    {
+        Array8FW.Builder<String8FW.Builder, String8FW> flyweightRW =
+            new Array8FW.Builder<>(new String8FW.Builder(), new String8FW());
+
+        Array8FW<String8FW> flyweightRO = new Array8FW<>(new String8FW());
+
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .item(b -> b.set("a", UTF_8))
+            .item(b -> b.set("bb", UTF_8))
+            .item(b -> b.set("ccc", UTF_8))
+            .build()
+            .limit();
+
+        final Array8FW<String8FW> array = flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals("ccc", array.item(2).asString());
+        assertEquals("a", array.item(0).asString());
+        assertEquals("bb", array.item(1).asString());
+
+        limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .item(b -> b.set("dddd", UTF_8))
+            .item(b -> b.set("e", UTF_8))
+            .build()
+            .limit();
+
+        flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals("e", flyweightRO.item(1).asString());
+        assertEquals("dddd", flyweightRO.item(0).asString());
+    }
+
+    @Test
+    public void shouldGetFixedSizeItemsByIndex() throws Exception
+    {
+        Array8FW.Builder<String8FW.Builder, String8FW> flyweightRW =
+            new Array8FW.Builder<>(new String8FW.Builder(), new String8FW());
+
+        Array8FW<String8FW> flyweightRO = new Array8FW<>(new String8FW());
+        flyweightRO.itemSize(Byte.BYTES + 2);
+
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .item(b -> b.set("ab", UTF_8))
+            .item(b -> b.set("cd", UTF_8))
+            .item(b -> b.set("ef", UTF_8))
+            .build()
+            .limit();
+
+        final Array8FW<String8FW> array = flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals("ef", array.item(2).asString());
+        assertEquals("ab", array.item(0).asString());
+        assertEquals("cd", array.item(1).asString());
+    }
+
+    @Test
+    public void shouldSliceItems() throws Exception
+    {
+        Array8FW.Builder<String8FW.Builder, String8FW> flyweightRW =
+            new Array8FW.Builder<>(new String8FW.Builder(), new String8FW());
+
+        Array8FW<String8FW> flyweightRO = new Array8FW<>(new String8FW());
+
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .item(b -> b.set("a", UTF_8))
+            .item(b -> b.set("bb", UTF_8))
+            .item(b -> b.set("ccc", UTF_8))
+            .build()
+            .limit();
+
+        final Array8FW<String8FW> array = flyweightRO.wrap(buffer, 0, limit);
+        final DirectBuffer slice = array.slice(1, 3);
+
+        assertEquals(Byte.BYTES + 2 + Byte.BYTES + 3, slice.capacity());
+
+        String8FW itemRO = new String8FW().wrap(slice, 0, slice.capacity());
+        assertEquals("bb", itemRO.asString());
+        assertEquals("ccc", itemRO.wrap(slice, itemRO.limit(), slice.capacity()).asString());
+        assertEquals(0, array.slice(3, 3).capacity());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldNotGetItemBeyondFieldCount() throws Exception
+    {
+        int length = setVariantItems(buffer, 10);
+        flyweightRO.wrap(buffer, 10, 10 + length).item(2);
+    }
+
     private static StringFW asStringFW(
         String value)
     {
@@ -18,8 +18,10 @@ package org.reaktivity.maven.plugins.nukleus.internal.generated;
 import static java.nio.ByteBuffer.allocateDirect;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.agrona.BitUtil;
@@ -108,6 +110,16 @@ public class EnumWithString8FWTest
         assertAllTestValuesRead(flyweightRO);
     }
 
+    @Test
+    public void shouldReadValueMatchingEncodedBytes() throws Exception
+    {
+        setAllTestValues(buffer, 10, "red");
+        flyweightRO.wrap(buffer, 10, buffer.capacity());
+        assertEquals(EnumWithString.RED, flyweightRO.get());
+        assertTrue(EnumWithString.RED.matches(flyweightRO.string()));
+        assertFalse(EnumWithString.YELLOW.matches(flyweightRO.string()));
+    }
+
     @Test
     public void shouldWrapAndReadAllValues() throws Exception
     {
@@ -320,6 +320,33 @@ public class FlatFWTest
         assertEquals("value4", flatRO.string4().asString());
     }
 
+    @Test
+    public void shouldAppendAllValues() throws Exception
+    {
+        flatRW.wrap(buffer, 0, buffer.capacity())
+                .fixed1(10)
+                .fixed2(20)
+                .string1("value1")
+                .fixed3(30)
+                .string2("value2")
+                .fixed4(40)
+                .string3("välue3")
+                .fixed5((byte) 50)
+                .string4("value4")
+                .build();
+        flatRO.wrap(buffer,  0,  100);
+
+        final String expected = "FLAT [fixed1=10, fixed2=20, string1=value1, fixed3=30, string2=value2, " +
+                "fixed4=40, string3=välue3, fixed5=50, string4=value4]";
+        assertEquals(expected, flatRO.toString());
+        assertEquals("prefix " + expected, flatRO.appendTo(new StringBuilder("prefix ")).toString());
+
+        final MutableDirectBuffer textBuffer = new UnsafeBuffer(new byte[256]);
+        int length = flatRO.appendTo(textBuffer, 1);
+        assertEquals(expected.getBytes(UTF_8).length, length);
+        assertEquals(expected, textBuffer.getStringWithoutLengthUtf8(1, length));
+    }
+
     @Test
     public void shouldSetStringValuesUsingFlyweight() throws Exception
     {
@@ -19,11 +19,11 @@ import static java.nio.ByteBuffer.allocateDirect;
 import static org.agrona.BufferUtil.NATIVE_BYTE_ORDER;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.nio.ByteOrder;
-import java.util.Arrays;
 
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -107,12 +107,85 @@ public class FlyweightTest
         assertTrue(zis.equals(zat));
     }
 
+    @Test
+    public void shouldReturnTrueFromEqualsWithTrailingBytes() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(0, "asdfghjklqwert");
+        buffer.putStringWithoutLengthUtf8(33, "asdfghjklqwert");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  0,  14);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  33,  47);
+        assertTrue(zis.equals(zat));
+        buffer.putByte(46, (byte) 'T');
+        assertFalse(zis.equals(zat));
+    }
+
+    @Test
+    public void shouldCompareUnsignedBytes() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(0, "asdfghjklqwert");
+        buffer.putStringWithoutLengthUtf8(33, "asdfghjklqwert");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  0,  14);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  33,  47);
+        assertEquals(0, zis.compareTo(zat));
+
+        buffer.putByte(45, (byte) 0xf0);
+        assertTrue(zis.compareTo(zat) < 0);
+        assertTrue(zat.compareTo(zis) > 0);
+
+        buffer.putByte(36, (byte) 0x01);
+        assertTrue(zis.compareTo(zat) > 0);
+        assertTrue(zat.compareTo(zis) < 0);
+    }
+
+    @Test
+    public void shouldCompareShorterAsLesserWhenPrefix() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(0, "asdfghjklqwert");
+        buffer.putStringWithoutLengthUtf8(33, "asdfghjklqwert");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  0,  9);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  33,  47);
+        assertTrue(zis.compareTo(zat) < 0);
+        assertTrue(zat.compareTo(zis) > 0);
+    }
+
     @Test
     public void shouldReturnHashCode() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(0, "asdfghjklqwert");
+        buffer.putStringWithoutLengthUtf8(33, "asdfghjklqwert");
+        for (int length = 0; length <= 14; length++)
+        {
+            Flyweight zis = new TestFlyweight().wrap(buffer,  0,  length);
+            Flyweight zat = new TestFlyweight().wrap(buffer,  33,  33 + length);
+            assertEquals(zis.hashCode(), zat.hashCode());
+        }
+    }
+
+    @Test
+    public void shouldReturnDifferentHashCodeWithDifferentContent() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(0, "asdfghjklqwert");
+        buffer.putStringWithoutLengthUtf8(20, "asdfghjklqwerT");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  0,  14);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  20,  34);
+        assertNotEquals(zis.hashCode(), zat.hashCode());
+    }
+
+    @Test
+    public void shouldReturnCachedHashCodeUntilRewrapped() throws Exception
     {
         buffer.putStringWithoutLengthUtf8(0, "asdf");
+        buffer.putStringWithoutLengthUtf8(10, "qwer");
         Flyweight flyweight = new TestFlyweight().wrap(buffer,  0,  4);
-        assertEquals(Arrays.hashCode("asdf".getBytes()), flyweight.hashCode());
+        flyweight.cacheHash(true);
+        final int hashCode = flyweight.hashCode();
+
+        buffer.putStringWithoutLengthUtf8(0, "zxcv");
+        assertEquals(hashCode, flyweight.hashCode());
+
+        final int rewrappedHashCode = flyweight.wrap(buffer, 10, 14).hashCode();
+        assertEquals(new TestFlyweight().wrap(buffer,  10,  14).hashCode(), rewrappedHashCode);
+        assertNotEquals(hashCode, rewrappedHashCode);
     }
 
     public static void putMediumInt(
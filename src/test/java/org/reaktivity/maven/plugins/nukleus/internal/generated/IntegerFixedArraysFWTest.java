@@ -16,6 +16,7 @@
 package org.reaktivity.maven.plugins.nukleus.internal.generated;
 
 import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -220,6 +221,54 @@ public class IntegerFixedArraysFWTest
         assertAllTestValuesRead(flyweightRO);
     }
 
+    @Test
+    public void shouldReadValuesByIndex() throws Exception
+    {
+        setAllTestValues(buffer, 1);
+        flyweightRO.wrap(buffer, 1, buffer.capacity());
+
+        assertEquals(3, flyweightRO.uint24Array().count());
+        assertEquals(1, flyweightRO.uint24Array().get(2));
+        assertEquals(0x00FF_FFFF, flyweightRO.uint24Array().get(1));
+        assertEquals(0xFFFF_FFFFL, flyweightRO.uint32Array().get(1));
+        assertEquals(-7L, flyweightRO.int64Array().get(7));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailToReadValueBeyondCount() throws Exception
+    {
+        setAllTestValues(buffer, 1);
+        flyweightRO.wrap(buffer, 1, buffer.capacity()).uint16Array().get(2);
+    }
+
+    @Test
+    public void shouldCopyValues() throws Exception
+    {
+        setAllTestValues(buffer, 1);
+        flyweightRO.wrap(buffer, 1, buffer.capacity());
+
+        final int[] int32Values = new int[5];
+        assertEquals(4, flyweightRO.int32Array().copyTo(int32Values, 1));
+        assertArrayEquals(new int[] {0, 4, -1, -2, -3}, int32Values);
+
+        final long[] uint32Values = new long[4];
+        assertEquals(4, flyweightRO.uint32Array().copyTo(uint32Values, 0));
+        assertArrayEquals(new long[] {4L, 0xFFFF_FFFFL, 1L, 2L}, uint32Values);
+    }
+
+    @Test
+    public void shouldReuseIteratorsAcrossWraps() throws Exception
+    {
+        setAllTestValues(buffer, 1);
+        setAllTestValues(expected, 0);
+        expected.putShort(1, (short) 5);
+        PrimitiveIterator.OfInt uint16Array = flyweightRO.wrap(buffer, 1, buffer.capacity()).uint16Array();
+        assertEquals(2, uint16Array.nextInt());
+
+        assertSame(uint16Array, flyweightRO.wrap(expected, 0, expected.capacity()).uint16Array());
+        assertEquals(5, uint16Array.nextInt());
+    }
+
     @Test(expected = IndexOutOfBoundsException.class)
     public void shouldFailToSetUint16ArrayBeyondLimit()
     {
@@ -0,0 +1,162 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.lazy.ListWithPhysicalAndLogicalLengthFW;
+
+public class LazyListWithPhysicalAndLogicalLengthFWTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(100))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+    private final ListWithPhysicalAndLogicalLengthFW.Builder flyweightRW = new ListWithPhysicalAndLogicalLengthFW.Builder();
+    private final ListWithPhysicalAndLogicalLengthFW flyweightRO = new ListWithPhysicalAndLogicalLengthFW();
+    private final int physicalLengthSize = Integer.BYTES;
+    private final int logicalLengthSize = Integer.BYTES;
+    private final int bitmaskSize = Long.BYTES;
+
+    @Test
+    public void shouldReadFieldsAfterWrap()
+    {
+        int limit = flyweightRW.wrap(buffer, 10, buffer.capacity())
+            .field0("value0")
+            .field1(100)
+            .field2("value2")
+            .build()
+            .limit();
+
+        assertSame(flyweightRO, flyweightRO.wrap(buffer, 10, limit));
+        assertEquals(limit, flyweightRO.limit());
+        assertEquals(3, flyweightRO.fieldCount());
+        assertEquals("value0", flyweightRO.field0().asString());
+        assertEquals(100L, flyweightRO.field1());
+        assertEquals("value2", flyweightRO.field2().asString());
+    }
+
+    @Test
+    public void shouldReadFieldsOutOfOrder()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field1(100)
+            .field2("value2")
+            .build()
+            .limit();
+
+        flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals("value2", flyweightRO.field2().asString());
+        assertEquals("value0", flyweightRO.field0().asString());
+        assertEquals(100L, flyweightRO.field1());
+        assertEquals("value2", flyweightRO.field2().asString());
+    }
+
+    @Test
+    public void shouldReadFieldAfterAbsentField()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field2("value2")
+            .build()
+            .limit();
+
+        flyweightRO.wrap(buffer, 0, limit);
+
+        assertTrue(flyweightRO.hasField0());
+        assertFalse(flyweightRO.hasField1());
+        assertTrue(flyweightRO.hasField2());
+        assertEquals("value2", flyweightRO.field2().asString());
+        assertEquals("value0", flyweightRO.field0().asString());
+    }
+
+    @Test
+    public void shouldLocateFieldsAgainAfterRewrap()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("first")
+            .field2("value2")
+            .build()
+            .limit();
+        int nextLimit = flyweightRW.wrap(buffer, limit, buffer.capacity())
+            .field0("second")
+            .field1(200)
+            .field2("other2")
+            .build()
+            .limit();
+
+        flyweightRO.wrap(buffer, 0, limit);
+        assertEquals("value2", flyweightRO.field2().asString());
+
+        flyweightRO.wrap(buffer, limit, nextLimit);
+        assertEquals("second", flyweightRO.field0().asString());
+        assertEquals(200L, flyweightRO.field1());
+        assertEquals("other2", flyweightRO.field2().asString());
+    }
+
+    @Test
+    public void shouldNotTryWrapWhenRequiredFieldNotSet()
+    {
+        int physicalLength = physicalLengthSize + logicalLengthSize + bitmaskSize + Integer.BYTES;
+        buffer.putInt(0, physicalLength);
+        buffer.putInt(physicalLengthSize, 1);
+        buffer.putLong(physicalLengthSize + logicalLengthSize, 2L);
+        buffer.putInt(physicalLengthSize + logicalLengthSize + bitmaskSize, 100);
+
+        assertNull(flyweightRO.tryWrap(buffer, 0, physicalLength));
+    }
+
+    @Test
+    public void shouldNotTryWrapWhenLengthExceedsMaxLimit()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .build()
+            .limit();
+
+        for (int maxLimit = 0; maxLimit < limit; maxLimit++)
+        {
+            assertNull(flyweightRO.tryWrap(buffer, 0, maxLimit));
+        }
+        assertSame(flyweightRO, flyweightRO.tryWrap(buffer, 0, limit));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailToLocateFieldBeyondLimit()
+    {
+        int physicalLength = physicalLengthSize + logicalLengthSize + bitmaskSize + Byte.BYTES + 2;
+        buffer.putInt(0, physicalLength);
+        buffer.putInt(physicalLengthSize, 1);
+        buffer.putLong(physicalLengthSize + logicalLengthSize, 1L);
+        buffer.putByte(physicalLengthSize + logicalLengthSize + bitmaskSize, (byte) 10);
+
+        assertSame(flyweightRO, flyweightRO.tryWrap(buffer, 0, physicalLength));
+        flyweightRO.field0();
+    }
+}
@@ -50,4 +50,22 @@ public class ListWithArrayOfStructFWTest
         assertEquals(48, listWithArray.limit());
         assertEquals(2, listWithArray.fieldCount());
     }
+
+    @Test
+    public void shouldAppendAllFields() throws Exception
+    {
+        int limit = listWithArrayRW.wrap(buffer, 0, buffer.capacity())
+            .requiredField("string0")
+            .arrayFieldItem(c -> c.fixed1(1L))
+            .arrayFieldItem(c -> c.fixed1(2L))
+            .build()
+            .limit();
+
+        final ListWithArrayOfStructFW listWithArray = listWithArrayRO.wrap(buffer, 0, limit);
+
+        final String expected = String.format("LIST_WITH_ARRAY_OF_STRUCT [bitmask=0x%16X, requiredField=\"string0\", " +
+            "arrayField=array32<%d, 2>]", 3, listWithArray.arrayField().length());
+        assertEquals(expected, listWithArray.toString());
+        assertEquals("> " + expected, listWithArray.appendTo(new StringBuilder("> ")).toString());
+    }
 }
@@ -18,9 +18,11 @@ package org.reaktivity.maven.plugins.nukleus.internal.generated;
 import static java.nio.ByteBuffer.allocateDirect;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
@@ -236,10 +238,60 @@ public class Map16FWTest
         assertEquals(0, flyweight.fieldCount());
     }
 
+    @Test
+    public void shouldGetValueByKey() throws Exception
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .entry(k -> k.set(asStringFW("entry1Key")), v -> v.set(asStringFW("entry1Value")))
+            .entry(k -> k.set(asStringFW("entry2Key")), v -> v.set(asStringFW("entry2Value")))
+            .build()
+            .limit();
+
+        final Map16FW<TypedefStringFW, VariantEnumKindOfStringFW> map = flyweightRO.wrap(buffer,  0,  limit);
+
+        assertEquals("entry2Value", map.get(asKey("entry2Key")).get().asString());
+        assertEquals("entry1Value", map.get(asKey("entry1Key")).get().asString());
+        assertTrue(map.containsKey(asKey("entry1Key")));
+        assertFalse(map.containsKey(asKey("entry3Key")));
+        assertNull(map.get(asKey("entry3Key")));
+    }
+
+    @Test
+    public void shouldGetValueByKeyUsingIndex() throws Exception
+    {
+        MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(1024));
+        flyweightRW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < 10; i++)
+        {
+            final String key = "key" + i;
+            final String value = "value" + i;
+            flyweightRW.entry(k -> k.set(asStringFW(key)), v -> v.set(asStringFW(value)));
+        }
+        int limit = flyweightRW.build().limit();
+
+        final Map16FW<TypedefStringFW, VariantEnumKindOfStringFW> map = flyweightRO.wrap(buffer,  0,  limit);
+
+        for (int round = 0; round < 2; round++)
+        {
+            for (int i = 9; i >= 0; i--)
+            {
+                assertEquals("value" + i, map.get(asKey("key" + i)).get().asString());
+            }
+            assertFalse(map.containsKey(asKey("key10")));
+        }
+    }
+
     private static StringFW asStringFW(
         String value)
     {
         MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(Byte.SIZE + value.length()));
         return new String8FW.Builder().wrap(buffer, 0, buffer.capacity()).set(value, UTF_8).build();
     }
+
+    private static TypedefStringFW asKey(
+        String value)
+    {
+        MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(Byte.SIZE + value.length()));
+        return new TypedefStringFW.Builder().wrap(buffer, 0, buffer.capacity()).set(asStringFW(value)).build();
+    }
 }
@@ -18,7 +18,10 @@ package org.reaktivity.maven.plugins.nukleus.internal.generated;
 import static java.nio.ByteBuffer.allocateDirect;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.agrona.BitUtil;
 import org.agrona.MutableDirectBuffer;
@@ -49,6 +52,52 @@ public class String8FWTest
         assertEquals(LENGTH_SIZE + "test".length(), string.sizeof());
     }
 
+    @Test
+    public void shouldAppendQuotedString() throws Exception
+    {
+        assertEquals("\"test\"", new String8FW("test").toString());
+        assertEquals("[\"tést\"", new String8FW("tést").appendTo(new StringBuilder("[")).toString());
+    }
+
+    @Test
+    public void shouldCompareAsciiBytes() throws Exception
+    {
+        String8FW string = new String8FW("/path/to/resource");
+
+        assertTrue(string.equalsAscii("/path/to/resource".getBytes(UTF_8)));
+        assertFalse(string.equalsAscii("/path/to".getBytes(UTF_8)));
+        assertTrue(string.startsWith("/path/".getBytes(UTF_8)));
+        assertFalse(string.startsWith("/paths/".getBytes(UTF_8)));
+        assertTrue(string.regionMatches(6, "--to--".getBytes(UTF_8), 2, 2));
+        assertFalse(string.regionMatches(16, "ce".getBytes(UTF_8), 0, 2));
+    }
+
+    @Test
+    public void shouldViewAsCharSequence() throws Exception
+    {
+        String8FW string = new String8FW("header");
+        CharSequence sequence = string.asCharSequence();
+
+        assertEquals(6, sequence.length());
+        assertEquals('h', sequence.charAt(0));
+        assertEquals("ead", sequence.subSequence(1, 4).toString());
+        assertEquals("header", sequence.toString());
+        assertSame(sequence, string.asCharSequence());
+    }
+
+    @Test
+    public void shouldNotViewNullAsCharSequence() throws Exception
+    {
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set((String) null, UTF_8)
+            .build()
+            .limit();
+        stringRO.wrap(buffer, 0, limit);
+
+        assertNull(stringRO.asCharSequence());
+        assertFalse(stringRO.equalsAscii(new byte[0]));
+    }
+
     @Test
     public void shouldInitWithEmptyString() throws Exception
     {
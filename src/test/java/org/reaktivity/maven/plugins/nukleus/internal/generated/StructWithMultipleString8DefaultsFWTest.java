@@ -0,0 +1,55 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.maven.plugins.nukleus.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.inner.StructWithMultipleString8DefaultsFW;
+
+public class StructWithMultipleString8DefaultsFWTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(100))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+    private final StructWithMultipleString8DefaultsFW.Builder structRW = new StructWithMultipleString8DefaultsFW.Builder();
+    private final StructWithMultipleString8DefaultsFW structRO = new StructWithMultipleString8DefaultsFW();
+
+    @Test
+    public void shouldMatchDefaultValues() throws Exception
+    {
+        int limit = structRW.wrap(buffer, 0, buffer.capacity())
+            .field2("other")
+            .field3("field3")
+            .build()
+            .limit();
+
+        final StructWithMultipleString8DefaultsFW struct = structRO.wrap(buffer, 0, limit);
+
+        assertEquals("field1", struct.field1().asString());
+        assertTrue(StructWithMultipleString8DefaultsFW.Builder.matchesDefaultField1(struct.field1()));
+        assertFalse(StructWithMultipleString8DefaultsFW.Builder.matchesDefaultField2(struct.field2()));
+    }
+}